@@ -0,0 +1,176 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.ErrorProneJavaCompiler;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.palantir.assertj.errorprone.AssertjRefactoring;
+import com.palantir.assertj.errorprone.PreferAssertj;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of compiling a synthetic test class with and without the assertj checks. Scores are reported per
+ * generated assertion statement, so the overhead of a check is the difference between its score and
+ * {@link Checks#NO_CHECKS}. Run with {@code ./gradlew :assertj-error-prone-benchmarks:jmh}, the gc profiler reports
+ * allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(CheckerBenchmark.STATEMENTS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CheckerBenchmark {
+
+    static final int STATEMENTS = 2_000;
+
+    private static final String CLASS_NAME = "BenchmarkTest";
+
+    @Param
+    public Workload workload;
+
+    @Param
+    public Checks checks;
+
+    private JavaCompiler compiler;
+    private ImmutableList<JavaFileObject> sources;
+    private ImmutableList<String> options;
+    private Path output;
+
+    @Setup
+    public void setup() throws IOException {
+        compiler = checks.compiler();
+        sources = ImmutableList.of(new SourceFile(CLASS_NAME, workload.source(CLASS_NAME, STATEMENTS)));
+        output = Files.createTempDirectory("assertj-error-prone-benchmarks");
+        options = ImmutableList.of(
+                "-classpath", System.getProperty("java.class.path"), "-d", output.toString(), "-proc:none");
+        // Fail fast rather than measuring a compilation which doesn't complete
+        List<Diagnostic<? extends JavaFileObject>> errors = compile().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .collect(Collectors.toList());
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Failed to compile " + workload + ": " + errors);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(output)) {
+            // Children sort after their parents, so reversing the order deletes files before their directories
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Diagnostic<? extends JavaFileObject>> compile() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    public enum Checks {
+        /** Plain javac, without error-prone. */
+        JAVAC {
+            @Override
+            JavaCompiler compiler() {
+                return ToolProvider.getSystemJavaCompiler();
+            }
+        },
+        /** Error-prone without any checks, the baseline for the remaining options. */
+        NO_CHECKS {
+            @Override
+            JavaCompiler compiler() {
+                return errorProne(ImmutableList.of());
+            }
+        },
+        PREFER_ASSERTJ {
+            @Override
+            JavaCompiler compiler() {
+                return errorProne(ImmutableList.of(PreferAssertj.class));
+            }
+        },
+        ASSERTJ_REFACTORING {
+            @Override
+            JavaCompiler compiler() {
+                return errorProne(ImmutableList.of(AssertjRefactoring.class));
+            }
+        },
+        ALL {
+            @Override
+            JavaCompiler compiler() {
+                return errorProne(ImmutableList.of(PreferAssertj.class, AssertjRefactoring.class));
+            }
+        };
+
+        abstract JavaCompiler compiler();
+
+        private static JavaCompiler errorProne(ImmutableList<Class<? extends BugChecker>> bugCheckers) {
+            return new ErrorProneJavaCompiler(ScannerSupplier.fromBugCheckerClasses(bugCheckers));
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String content;
+
+        SourceFile(String className, String content) {
+            super(URI.create("string:///" + className + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
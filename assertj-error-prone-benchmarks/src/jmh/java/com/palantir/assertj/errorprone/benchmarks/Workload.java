@@ -0,0 +1,72 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.benchmarks;
+
+/**
+ * Synthetic test sources which exercise the checks. Each workload produces a single test class containing
+ * {@code statements} assertions, split across test methods of {@link #STATEMENTS_PER_METHOD} statements each.
+ */
+public enum Workload {
+    /** Legacy JUnit 4 {@code assertEquals} invocations rewritten by {@code PreferAssertj}. */
+    JUNIT_ASSERT_EQUALS(
+            "import static org.junit.Assert.assertEquals;\n",
+            "  public void test%1$d(int value, String string) {\n",
+            "    assertEquals(%1$d, value);\n    assertEquals(\"%1$d\", string);\n"),
+
+    /** Hamcrest {@code assertThat} invocations rewritten by {@code PreferAssertj}. */
+    HAMCREST_ASSERT_THAT(
+            "import static org.hamcrest.MatcherAssert.assertThat;\nimport static org.hamcrest.Matchers.is;\n",
+            "  public void test%1$d(int value, String string) {\n",
+            "    assertThat(value, is(%1$d));\n    assertThat(string, is(\"%1$d\"));\n"),
+
+    /** AssertJ size comparisons rewritten by {@code AssertjRefactoring}. */
+    ASSERTJ_SIZE(
+            "import static org.assertj.core.api.Assertions.assertThat;\nimport java.util.List;\n",
+            "  public void test%1$d(List<String> list, String string) {\n",
+            "    assertThat(list.size()).isEqualTo(%1$d);\n    assertThat(string.length()).isEqualTo(%1$d);\n");
+
+    /** Each statement template contributes two assertions. */
+    static final int STATEMENTS_PER_METHOD = 50;
+
+    private final String imports;
+    private final String methodTemplate;
+    private final String statementTemplate;
+
+    Workload(String imports, String methodTemplate, String statementTemplate) {
+        this.imports = imports;
+        this.methodTemplate = methodTemplate;
+        this.statementTemplate = statementTemplate;
+    }
+
+    /** Returns the source of class {@code className} containing {@code statements} assertions. */
+    String source(String className, int statements) {
+        StringBuilder source = new StringBuilder()
+                .append(imports)
+                .append("public class ")
+                .append(className)
+                .append(" {\n");
+        int statement = 0;
+        for (int method = 0; statement < statements; method++) {
+            source.append("  @org.junit.Test\n").append(String.format(methodTemplate, method));
+            for (int i = 0; i < STATEMENTS_PER_METHOD && statement < statements; i += 2, statement += 2) {
+                source.append(String.format(statementTemplate, statement));
+            }
+            source.append("  }\n");
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies {@code PreferAssertj} and {@code AssertjRefactoring} to entire source trees outside of a build, compiling
+ * shards of files concurrently in a single process. Fixes are written as a unified diff, which may be applied with
+ * {@code git apply}.
+ */
+public final class AssertjRefactoringCli {
+
+    private AssertjRefactoringCli() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.exit(run(Arrays.asList(args), System.out, System.err));
+    }
+
+    static int run(List<String> args, PrintStream out, PrintStream err) throws IOException, InterruptedException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(Options.USAGE);
+            return 2;
+        }
+        BatchRefactoring.Summary summary = BatchRefactoring.run(options);
+        summary.errors().forEach(err::println);
+        out.printf(
+                "Refactored %d of %d files in %d shards (%d cached), patch written to %s%n",
+                summary.changes().size(),
+                summary.files(),
+                summary.shards(),
+                summary.cached(),
+                options.output());
+        // Shards which fail to compile may be missing fixes, the patch is still valid for the remaining files
+        return summary.errors().isEmpty() ? 0 : 1;
+    }
+}
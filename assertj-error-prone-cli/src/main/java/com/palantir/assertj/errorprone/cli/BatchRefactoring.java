@@ -0,0 +1,161 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/** Refactors all source roots by compiling shards of files concurrently, and writes the combined patch. */
+final class BatchRefactoring {
+
+    private BatchRefactoring() {}
+
+    static Summary run(Options options) throws IOException, InterruptedException {
+        ImmutableList<SourceFile> files = SourceFile.discover(options.sourceRoots());
+        Optional<ResultCache> cache = options.cacheDirectory().isPresent()
+                ? Optional.of(ResultCache.create(options.cacheDirectory().get(), options))
+                : Optional.empty();
+        // Changes are keyed by file so the patch follows discovery order, regardless of which files were cached
+        Map<SourceFile, FileChange> changesByFile = new HashMap<>();
+        List<SourceFile> uncached = new ArrayList<>(files.size());
+        for (SourceFile file : files) {
+            String original = Files.readString(file.path(), StandardCharsets.UTF_8);
+            Optional<String> refactored = cache.isPresent() ? cache.get().lookup(original) : Optional.empty();
+            if (refactored.isEmpty()) {
+                uncached.add(file);
+            } else if (!refactored.get().equals(original)) {
+                changesByFile.put(file, new FileChange(file, original, refactored.get()));
+            }
+        }
+        List<List<SourceFile>> shards = Lists.partition(uncached, options.shardSize());
+        ImmutableList.Builder<String> errors = ImmutableList.builder();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(Math.max(1, Math.min(options.threads(), shards.size())));
+        try {
+            Queue<Future<Shard.Result>> futures = new ArrayDeque<>(shards.size());
+            for (List<SourceFile> shard : shards) {
+                futures.add(executor.submit(() -> new Shard(shard, options).refactor()));
+            }
+            // Futures are removed once handled, so the originals of each shard are only retained until it is cached
+            Future<Shard.Result> future;
+            while ((future = futures.poll()) != null) {
+                Shard.Result result = get(future);
+                for (FileChange change : result.changes()) {
+                    changesByFile.put(change.file(), change);
+                }
+                errors.addAll(result.errors());
+                // Fixes may be missing from shards which fail to compile, so only complete results are retained
+                if (cache.isPresent() && result.errors().isEmpty()) {
+                    for (Map.Entry<SourceFile, String> entry : result.originals().entrySet()) {
+                        FileChange change = changesByFile.get(entry.getKey());
+                        cache.get().store(entry.getValue(), change == null ? entry.getValue() : change.refactored());
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        ImmutableList<FileChange> changes = files.stream()
+                .filter(changesByFile::containsKey)
+                .map(changesByFile::get)
+                .collect(ImmutableList.toImmutableList());
+        Summary summary =
+                new Summary(files.size(), shards.size(), files.size() - uncached.size(), changes, errors.build());
+        writePatch(options.output(), summary.changes());
+        return summary;
+    }
+
+    private static void writePatch(Path output, List<FileChange> changes) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(
+                output,
+                changes.stream().map(FileChange::unifiedDiff).collect(Collectors.joining()),
+                StandardCharsets.UTF_8);
+    }
+
+    private static Shard.Result get(Future<Shard.Result> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Failed to refactor shard", e.getCause());
+        }
+    }
+
+    static final class Summary {
+        private final int files;
+        private final int shards;
+        private final int cached;
+        private final ImmutableList<FileChange> changes;
+        private final ImmutableList<String> errors;
+
+        Summary(
+                int files,
+                int shards,
+                int cached,
+                ImmutableList<FileChange> changes,
+                ImmutableList<String> errors) {
+            this.files = files;
+            this.shards = shards;
+            this.cached = cached;
+            this.changes = changes;
+            this.errors = errors;
+        }
+
+        int files() {
+            return files;
+        }
+
+        int shards() {
+            return shards;
+        }
+
+        /** Number of files whose results were reused from the {@link ResultCache}. */
+        int cached() {
+            return cached;
+        }
+
+        ImmutableList<FileChange> changes() {
+            return changes;
+        }
+
+        ImmutableList<String> errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import com.github.difflib.DiffUtils;
+import com.github.difflib.UnifiedDiffUtils;
+import com.github.difflib.patch.Patch;
+import java.util.ArrayList;
+import java.util.List;
+
+/** A refactoring of a single {@link SourceFile}. */
+final class FileChange {
+
+    private static final String NO_NEWLINE = "\\ No newline at end of file";
+
+    private final SourceFile file;
+    private final String original;
+    private final String refactored;
+
+    FileChange(SourceFile file, String original, String refactored) {
+        this.file = file;
+        this.original = original;
+        this.refactored = refactored;
+    }
+
+    SourceFile file() {
+        return file;
+    }
+
+    String refactored() {
+        return refactored;
+    }
+
+    /** Returns the change as a unified diff, with git style {@code a/} and {@code b/} path prefixes. */
+    String unifiedDiff() {
+        List<String> originalLines = lines(original);
+        Patch<String> patch = DiffUtils.diff(originalLines, lines(refactored));
+        String path = file.displayPath();
+        List<String> diff = UnifiedDiffUtils.generateUnifiedDiff(
+                "a/" + path, "b/" + path, originalLines, patch, /* contextSize= */ 3);
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < diff.size(); i++) {
+            String line = diff.get(i);
+            // Lines retain their terminator, so only the final line of a file without a trailing newline lacks one
+            boolean content = i >= 2 && !line.startsWith("@@");
+            if (content && line.endsWith("\n")) {
+                result.append(line);
+            } else {
+                result.append(line).append('\n');
+                if (content) {
+                    result.append(NO_NEWLINE).append('\n');
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Splits {@code content} into lines including their terminators, so a final line without a trailing newline
+     * differs from the same line with one.
+     */
+    private static List<String> lines(String content) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.indexOf('\n', start);
+            end = end < 0 ? content.length() : end + 1;
+            lines.add(content.substring(start, end));
+            start = end;
+        }
+        return lines;
+    }
+
+    @Override
+    public String toString() {
+        return "FileChange{file=" + file + '}';
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import com.google.common.collect.ImmutableList;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/** Command line options of {@link AssertjRefactoringCli}. */
+final class Options {
+
+    static final String USAGE = String.join(
+            "\n",
+            "Usage: assertj-error-prone-cli --source-root <dir> [--source-root <dir>...] --output <file> [options]",
+            "",
+            "  --source-root <dir>     Directory of Java sources to refactor, may be repeated",
+            "  --classpath <path>      Classpath required to compile the sources",
+            "  --output <file>         Unified diff of all refactorings is written to this file",
+            "  --threads <n>           Number of shards compiled concurrently, defaults to the number of processors",
+            "  --shard-size <n>        Number of source files compiled by each javac task, defaults to 200",
+            "  --max-passes <n>        Recompiles modified files until no fixes remain, at most n times, defaults to 5",
+            "  --javac-option <opt>    Additional javac or error-prone option, may be repeated",
+            "  --cache-dir <dir>       Reuses results for files whose inputs are unchanged since a previous run");
+
+    private final ImmutableList<Path> sourceRoots;
+    private final String classpath;
+    private final Path output;
+    private final int threads;
+    private final int shardSize;
+    private final int maxPasses;
+    private final ImmutableList<String> javacOptions;
+    private final Optional<Path> cacheDirectory;
+
+    private Options(
+            ImmutableList<Path> sourceRoots,
+            String classpath,
+            Path output,
+            int threads,
+            int shardSize,
+            int maxPasses,
+            ImmutableList<String> javacOptions,
+            Optional<Path> cacheDirectory) {
+        this.sourceRoots = sourceRoots;
+        this.classpath = classpath;
+        this.output = output;
+        this.threads = threads;
+        this.shardSize = shardSize;
+        this.maxPasses = maxPasses;
+        this.javacOptions = javacOptions;
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /** Parses {@code args}, throwing {@link IllegalArgumentException} if they are invalid. */
+    @SuppressWarnings("SwitchStatementDefaultCase")
+    static Options parse(List<String> args) {
+        ImmutableList.Builder<Path> sourceRoots = ImmutableList.builder();
+        ImmutableList.Builder<String> javacOptions = ImmutableList.builder();
+        String classpath = "";
+        Optional<Path> output = Optional.empty();
+        Optional<Path> cacheDirectory = Optional.empty();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int shardSize = 200;
+        int maxPasses = 5;
+        Iterator<String> iterator = args.iterator();
+        while (iterator.hasNext()) {
+            String option = iterator.next();
+            switch (option) {
+                case "--source-root":
+                    sourceRoots.add(Paths.get(value(option, iterator)).toAbsolutePath().normalize());
+                    break;
+                case "--classpath":
+                    classpath = value(option, iterator);
+                    break;
+                case "--output":
+                    output = Optional.of(Paths.get(value(option, iterator)));
+                    break;
+                case "--threads":
+                    threads = positive(option, value(option, iterator));
+                    break;
+                case "--shard-size":
+                    shardSize = positive(option, value(option, iterator));
+                    break;
+                case "--max-passes":
+                    maxPasses = positive(option, value(option, iterator));
+                    break;
+                case "--javac-option":
+                    javacOptions.add(value(option, iterator));
+                    break;
+                case "--cache-dir":
+                    cacheDirectory = Optional.of(Paths.get(value(option, iterator)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        ImmutableList<Path> roots = sourceRoots.build();
+        if (roots.isEmpty()) {
+            throw new IllegalArgumentException("At least one --source-root is required");
+        }
+        return new Options(
+                roots,
+                classpath,
+                output.orElseThrow(() -> new IllegalArgumentException("--output is required")),
+                threads,
+                shardSize,
+                maxPasses,
+                javacOptions.build(),
+                cacheDirectory);
+    }
+
+    private static String value(String option, Iterator<String> iterator) {
+        if (!iterator.hasNext()) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return iterator.next();
+    }
+
+    private static int positive(String option, String value) {
+        try {
+            int result = Integer.parseInt(value);
+            if (result > 0) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the descriptive exception below
+        }
+        throw new IllegalArgumentException(option + " must be a positive integer, was " + value);
+    }
+
+    ImmutableList<Path> sourceRoots() {
+        return sourceRoots;
+    }
+
+    String classpath() {
+        return classpath;
+    }
+
+    /** Source roots joined as a javac {@code -sourcepath}. */
+    String sourcepath() {
+        return sourceRoots.stream().map(Path::toString).collect(Collectors.joining(File.pathSeparator));
+    }
+
+    Path output() {
+        return output;
+    }
+
+    int threads() {
+        return threads;
+    }
+
+    int shardSize() {
+        return shardSize;
+    }
+
+    int maxPasses() {
+        return maxPasses;
+    }
+
+    ImmutableList<String> javacOptions() {
+        return javacOptions;
+    }
+
+    Optional<Path> cacheDirectory() {
+        return cacheDirectory;
+    }
+}
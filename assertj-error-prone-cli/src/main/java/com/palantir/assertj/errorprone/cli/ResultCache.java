@@ -0,0 +1,163 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.palantir.assertj.errorprone.AssertjRefactoring;
+import com.palantir.assertj.errorprone.PreferAssertj;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of refactoring results, keyed on the content of a source file and a fingerprint of every other
+ * input: the classpath, the applied checks, the code of the checks, the number of passes and the compiler options.
+ * Each entry is a file named by its key, which is empty when no fixes were produced and otherwise contains the
+ * refactored source.
+ *
+ * <p>Results of a file may also depend on other files in the source roots, for example when a referenced type
+ * changes from a {@code List} to a {@code Set}. Such changes are not detected, so the cache should be discarded when
+ * the results are unexpected.
+ */
+final class ResultCache {
+
+    private final Path directory;
+    private final String fingerprint;
+
+    private ResultCache(Path directory, String fingerprint) {
+        this.directory = directory;
+        this.fingerprint = fingerprint;
+    }
+
+    static ResultCache create(Path directory, Options options) throws IOException {
+        Files.createDirectories(directory);
+        Hasher hasher = Hashing.sha256().newHasher();
+        putCheckerCode(hasher);
+        putString(hasher, Shard.CHECK_NAMES);
+        hasher.putInt(options.maxPasses());
+        putString(hasher, System.getProperty("java.version"));
+        hasher.putInt(options.javacOptions().size());
+        for (String option : options.javacOptions()) {
+            putString(hasher, option);
+        }
+        List<String> classpath =
+                Splitter.on(File.pathSeparatorChar).omitEmptyStrings().splitToList(options.classpath());
+        hasher.putInt(classpath.size());
+        for (String entry : classpath) {
+            putClasspathEntry(hasher, Paths.get(entry));
+        }
+        return new ResultCache(directory, hasher.hash().toString());
+    }
+
+    /**
+     * Returns the refactored content of {@code source} from a previous run, which is {@code source} itself when no
+     * fixes were produced.
+     */
+    Optional<String> lookup(String source) throws IOException {
+        Path entry = directory.resolve(key(source));
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        String refactored = Files.readString(entry, StandardCharsets.UTF_8);
+        return Optional.of(refactored.isEmpty() ? source : refactored);
+    }
+
+    void store(String source, String refactored) throws IOException {
+        Path entry = directory.resolve(key(source));
+        // Concurrent runs may share the cache, so entries are written completely before becoming visible
+        Path temporary = Files.createTempFile(directory, "entry", ".tmp");
+        Files.writeString(temporary, source.equals(refactored) ? "" : refactored, StandardCharsets.UTF_8);
+        Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String key(String source) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, fingerprint);
+        putString(hasher, source);
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Fingerprints the code of the checks by content, so that rebuilding them invalidates the cache even when they are
+     * loaded from a directory, or a jar whose version is unchanged.
+     */
+    private static void putCheckerCode(Hasher hasher) throws IOException {
+        Set<Path> locations = new LinkedHashSet<>();
+        for (Class<?> checker : ImmutableList.of(PreferAssertj.class, AssertjRefactoring.class)) {
+            CodeSource codeSource = checker.getProtectionDomain().getCodeSource();
+            checkState(codeSource != null, "Unable to locate the code of %s", checker.getName());
+            try {
+                locations.add(Paths.get(codeSource.getLocation().toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Unable to locate the code of " + checker.getName(), e);
+            }
+        }
+        hasher.putInt(locations.size());
+        for (Path location : locations) {
+            List<Path> files = files(location);
+            hasher.putInt(files.size());
+            for (Path file : files) {
+                putString(hasher, location.relativize(file).toString());
+                byte[] content = Files.readAllBytes(file);
+                hasher.putInt(content.length).putBytes(content);
+            }
+        }
+    }
+
+    /** Fingerprints classpath entries by file metadata rather than content, jars are only read when they change. */
+    private static void putClasspathEntry(Hasher hasher, Path entry) throws IOException {
+        putString(hasher, entry.toAbsolutePath().toString());
+        List<Path> files = files(entry);
+        hasher.putInt(files.size());
+        for (Path file : files) {
+            putString(hasher, file.toString());
+            hasher.putLong(Files.size(file)).putLong(Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+
+    /** Returns {@code path} itself if it is a file, or every file within it in a stable order if it is a directory. */
+    private static List<Path> files(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.walk(path)) {
+                return paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+        }
+        return Files.isRegularFile(path) ? ImmutableList.of(path) : ImmutableList.of();
+    }
+
+    /** Length prefixes each string, so that adjacent fields can't shift into one another, e.g. {@code -Xa b}. */
+    private static void putString(Hasher hasher, String value) {
+        hasher.putInt(value.length()).putUnencodedChars(value);
+    }
+}
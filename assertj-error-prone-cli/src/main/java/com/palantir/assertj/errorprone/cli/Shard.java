@@ -0,0 +1,214 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.google.errorprone.ErrorProneJavaCompiler;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.palantir.assertj.errorprone.AssertjRefactoring;
+import com.palantir.assertj.errorprone.PreferAssertj;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+/**
+ * Refactors one shard of source files using a single javac task. The files are copied to a temporary directory and
+ * fixes are applied to the copies in place, so the original sources are never modified. The original source roots
+ * remain on the source path so that references to files outside of the shard resolve.
+ */
+final class Shard {
+
+    /** Names of the checks which are applied, these must match the checks in {@link #CHECKS}. */
+    static final String CHECK_NAMES = "PreferAssertj,AssertjRefactoring";
+
+    private static final ScannerSupplier CHECKS =
+            ScannerSupplier.fromBugCheckerClasses(PreferAssertj.class, AssertjRefactoring.class);
+
+    private final ImmutableList<SourceFile> files;
+    private final Options options;
+
+    Shard(List<SourceFile> files, Options options) {
+        this.files = ImmutableList.copyOf(files);
+        this.options = options;
+    }
+
+    Result refactor() throws IOException {
+        Path workDirectory = Files.createTempDirectory("assertj-error-prone-cli");
+        try {
+            Path sources = workDirectory.resolve("sources");
+            Path classes = Files.createDirectories(workDirectory.resolve("classes"));
+            ImmutableMap.Builder<SourceFile, Path> copiesBuilder = ImmutableMap.builder();
+            ImmutableMap.Builder<SourceFile, String> originalsBuilder = ImmutableMap.builder();
+            for (SourceFile file : files) {
+                // Read each original once, so the copy which is compiled and the reported original always agree
+                String original = Files.readString(file.path(), StandardCharsets.UTF_8);
+                Path copy = file.resolveIn(sources);
+                Files.createDirectories(copy.getParent());
+                Files.writeString(copy, original, StandardCharsets.UTF_8);
+                copiesBuilder.put(file, copy);
+                originalsBuilder.put(file, original);
+            }
+            ImmutableMap<SourceFile, Path> copies = copiesBuilder.buildOrThrow();
+            ImmutableMap<SourceFile, String> originals = originalsBuilder.buildOrThrow();
+            ImmutableList<String> errors = compileUntilFixpoint(copies, classes);
+
+            ImmutableList.Builder<FileChange> changes = ImmutableList.builder();
+            for (Map.Entry<SourceFile, Path> entry : copies.entrySet()) {
+                String original = originals.get(entry.getKey());
+                String refactored = Files.readString(entry.getValue(), StandardCharsets.UTF_8);
+                if (!original.equals(refactored)) {
+                    changes.add(new FileChange(entry.getKey(), original, refactored));
+                }
+            }
+            return new Result(changes.build(), originals, errors);
+        } finally {
+            MoreFiles.deleteRecursively(workDirectory, RecursiveDeleteOption.ALLOW_INSECURE);
+        }
+    }
+
+    /**
+     * Compiles {@code copies} repeatedly, up to {@link Options#maxPasses()} times, because a fix may enable further
+     * fixes, e.g. {@code assertTrue(list.size() == 3)} only becomes {@code assertThat(list).hasSize(3)} after three
+     * passes. Only copies which were modified by the previous pass are compiled again.
+     */
+    private ImmutableList<String> compileUntilFixpoint(ImmutableMap<SourceFile, Path> copies, Path classes)
+            throws IOException {
+        ImmutableMap<SourceFile, Path> pending = copies;
+        for (int pass = 1; ; pass++) {
+            ImmutableMap<SourceFile, String> before = read(pending);
+            ImmutableList<String> errors = compile(pending, classes);
+            if (!errors.isEmpty() || pass >= options.maxPasses()) {
+                return errors;
+            }
+            ImmutableMap.Builder<SourceFile, Path> modified = ImmutableMap.builder();
+            for (Map.Entry<SourceFile, Path> entry : pending.entrySet()) {
+                if (!before.get(entry.getKey()).equals(Files.readString(entry.getValue(), StandardCharsets.UTF_8))) {
+                    modified.put(entry);
+                }
+            }
+            pending = modified.buildOrThrow();
+            if (pending.isEmpty()) {
+                return errors;
+            }
+        }
+    }
+
+    private static ImmutableMap<SourceFile, String> read(ImmutableMap<SourceFile, Path> copies) throws IOException {
+        ImmutableMap.Builder<SourceFile, String> contents = ImmutableMap.builder();
+        for (Map.Entry<SourceFile, Path> entry : copies.entrySet()) {
+            contents.put(entry.getKey(), Files.readString(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        return contents.buildOrThrow();
+    }
+
+    /** Compiles {@code copies}, applying fixes in place, and returns any compilation errors. */
+    private ImmutableList<String> compile(ImmutableMap<SourceFile, Path> copies, Path classes) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler compiler = new ErrorProneJavaCompiler(CHECKS);
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            compiler.getTask(
+                            null,
+                            fileManager,
+                            diagnostics,
+                            arguments(classes),
+                            null,
+                            fileManager.getJavaFileObjectsFromPaths(copies.values()))
+                    .call();
+        }
+        Map<URI, SourceFile> originals = copies.entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getValue().toUri(), Map.Entry::getKey));
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> format(diagnostic, originals))
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    private ImmutableList<String> arguments(Path classes) {
+        return ImmutableList.<String>builder()
+                .add("-classpath", options.classpath())
+                .add("-sourcepath", options.sourcepath())
+                .add("-d", classes.toString())
+                .add("-proc:none", "-implicit:none")
+                .add("-XepPatchLocation:IN_PLACE")
+                .add("-XepPatchChecks:" + CHECK_NAMES)
+                // Files outside of the shard may be parsed from the source path, those must never be modified
+                .add("-XepExcludedPaths:" + excludedPaths(options.sourceRoots()))
+                .addAll(options.javacOptions())
+                .build();
+    }
+
+    private static String excludedPaths(List<Path> sourceRoots) {
+        return sourceRoots.stream()
+                .map(root -> Pattern.quote(root.toUri().getPath()) + ".*")
+                .collect(Collectors.joining("|"));
+    }
+
+    private static String format(Diagnostic<? extends JavaFileObject> diagnostic, Map<URI, SourceFile> originals) {
+        JavaFileObject source = diagnostic.getSource();
+        if (source == null) {
+            return diagnostic.getMessage(Locale.ROOT);
+        }
+        // Report the original file rather than the temporary copy which was compiled
+        SourceFile original = originals.get(source.toUri());
+        String file = original == null ? source.getName() : original.toString();
+        return file + ':' + diagnostic.getLineNumber() + ": " + diagnostic.getMessage(Locale.ROOT);
+    }
+
+    static final class Result {
+        private final ImmutableList<FileChange> changes;
+        private final ImmutableMap<SourceFile, String> originals;
+        private final ImmutableList<String> errors;
+
+        Result(
+                ImmutableList<FileChange> changes,
+                ImmutableMap<SourceFile, String> originals,
+                ImmutableList<String> errors) {
+            this.changes = changes;
+            this.originals = originals;
+            this.errors = errors;
+        }
+
+        ImmutableList<FileChange> changes() {
+            return changes;
+        }
+
+        /** Contents of every file in the shard before it was refactored. */
+        ImmutableMap<SourceFile, String> originals() {
+            return originals;
+        }
+
+        ImmutableList<String> errors() {
+            return errors;
+        }
+    }
+}
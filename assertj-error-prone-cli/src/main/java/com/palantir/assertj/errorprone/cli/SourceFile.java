@@ -0,0 +1,106 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** A Java source file within one of the {@link Options#sourceRoots() source roots}. */
+final class SourceFile {
+
+    private final int rootIndex;
+    private final Path root;
+    private final Path relativePath;
+
+    private SourceFile(int rootIndex, Path root, Path relativePath) {
+        this.rootIndex = rootIndex;
+        this.root = root;
+        this.relativePath = relativePath;
+    }
+
+    /** Returns every Java source file within {@code roots}, in a stable order. */
+    static ImmutableList<SourceFile> discover(List<Path> roots) throws IOException {
+        ImmutableList.Builder<SourceFile> files = ImmutableList.builder();
+        for (int rootIndex = 0; rootIndex < roots.size(); rootIndex++) {
+            Path root = roots.get(rootIndex);
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path path : paths.filter(path -> path.toString().endsWith(".java"))
+                        .filter(Files::isRegularFile)
+                        .sorted()
+                        .collect(Collectors.toList())) {
+                    files.add(new SourceFile(rootIndex, root, root.relativize(path)));
+                }
+            }
+        }
+        return files.build();
+    }
+
+    /** Location of the original file. */
+    Path path() {
+        return root.resolve(relativePath);
+    }
+
+    /**
+     * Location of this file within a copy of all source roots in {@code directory}. Each root is copied to a separate
+     * subdirectory, so files with the same relative path in different roots don't collide.
+     */
+    Path resolveIn(Path directory) {
+        return directory.resolve(Integer.toString(rootIndex)).resolve(relativePath.toString());
+    }
+
+    /** Path used in patches, relative to the working directory where possible. */
+    String displayPath() {
+        Path workingDirectory = Paths.get("").toAbsolutePath();
+        Path path = path();
+        Path display = path.startsWith(workingDirectory) ? workingDirectory.relativize(path) : path;
+        return display.toString().replace('\\', '/');
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        SourceFile that = (SourceFile) other;
+        if (rootIndex != that.rootIndex || !root.equals(that.root)) {
+            return false;
+        }
+        return relativePath.equals(that.relativePath);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = rootIndex;
+        result = 31 * result + root.hashCode();
+        result = 31 * result + relativePath.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return path().toString();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AssertjRefactoringCliTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void writesPatchWithoutModifyingSources() throws IOException, InterruptedException {
+        Path root = temp.resolve("src");
+        Path test = write(
+                root.resolve("com/example/FooTest.java"),
+                "package com.example;",
+                "import static org.junit.Assert.assertEquals;",
+                "class FooTest {",
+                "  void test() {",
+                "    assertEquals(1, Foo.value());",
+                "  }",
+                "}");
+        // Compiled in a separate shard, so it must be resolved through the source path
+        write(
+                root.resolve("com/example/Foo.java"),
+                "package com.example;",
+                "class Foo {",
+                "  static int value() {",
+                "    return 1;",
+                "  }",
+                "}");
+        String original = Files.readString(test);
+        Path patch = temp.resolve("assertj.patch");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = AssertjRefactoringCli.run(
+                ImmutableList.of(
+                        "--source-root", root.toString(),
+                        "--classpath", System.getProperty("java.class.path"),
+                        "--output", patch.toString(),
+                        "--shard-size", "1",
+                        "--threads", "2"),
+                new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertThat(exitCode).describedAs(err.toString(StandardCharsets.UTF_8)).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("Refactored 1 of 2 files in 2 shards (0 cached)");
+        assertThat(Files.readString(patch))
+                .contains("FooTest.java")
+                .contains("-    assertEquals(1, Foo.value());")
+                .contains("+    assertThat(Foo.value()).isEqualTo(1);")
+                .doesNotContain("No newline at end of file");
+        assertThat(Files.readString(test)).isEqualTo(original);
+    }
+
+    @Test
+    void marksMissingNewlineAtEndOfFile() throws IOException, InterruptedException {
+        Path root = temp.resolve("src");
+        Path test = root.resolve("com/example/FooTest.java");
+        Files.createDirectories(test.getParent());
+        Files.writeString(
+                test,
+                String.join(
+                        "\n",
+                        "package com.example;",
+                        "import static org.junit.Assert.assertEquals;",
+                        "class FooTest {",
+                        "  void test() {",
+                        "    assertEquals(1, 2);",
+                        "  }",
+                        "}"));
+        Path patch = temp.resolve("assertj.patch");
+
+        run(ImmutableList.of(
+                "--source-root", root.toString(),
+                "--classpath", System.getProperty("java.class.path"),
+                "--output", patch.toString()));
+
+        assertThat(Files.readString(patch))
+                .contains("+    assertThat(2).isEqualTo(1);\n")
+                .endsWith("   }\n }\n\\ No newline at end of file\n");
+    }
+
+    @Test
+    void reusesCachedResults() throws IOException, InterruptedException {
+        Path root = temp.resolve("src");
+        write(
+                root.resolve("com/example/FooTest.java"),
+                "package com.example;",
+                "import static org.junit.Assert.assertEquals;",
+                "class FooTest {",
+                "  void test() {",
+                "    assertEquals(1, 2);",
+                "  }",
+                "}");
+        write(root.resolve("com/example/Foo.java"), "package com.example;", "class Foo {}");
+        ImmutableList<String> args = ImmutableList.of(
+                "--source-root", root.toString(),
+                "--classpath", System.getProperty("java.class.path"),
+                "--output", temp.resolve("assertj.patch").toString(),
+                "--cache-dir", temp.resolve("cache").toString());
+
+        String first = run(args);
+        String firstPatch = Files.readString(temp.resolve("assertj.patch"));
+        String second = run(args);
+
+        assertThat(first).contains("Refactored 1 of 2 files in 1 shards (0 cached)");
+        assertThat(second).contains("Refactored 1 of 2 files in 0 shards (2 cached)");
+        assertThat(Files.readString(temp.resolve("assertj.patch"))).isEqualTo(firstPatch);
+    }
+
+    @Test
+    void appliesFixesEnabledByPreviousPasses() throws IOException, InterruptedException {
+        Path root = temp.resolve("src");
+        write(
+                root.resolve("com/example/FooTest.java"),
+                "package com.example;",
+                "import static org.junit.Assert.assertTrue;",
+                "import java.util.List;",
+                "class FooTest {",
+                "  void test(List<String> list) {",
+                "    assertTrue(list.size() == 3);",
+                "  }",
+                "}");
+        Path patch = temp.resolve("assertj.patch");
+        ImmutableList<String> args = ImmutableList.of(
+                "--source-root", root.toString(),
+                "--classpath", System.getProperty("java.class.path"),
+                "--output", patch.toString());
+
+        run(ImmutableList.<String>builder()
+                .addAll(args)
+                .add("--max-passes", "1")
+                .build());
+        assertThat(Files.readString(patch)).contains("+    assertThat(list.size() == 3).isTrue();");
+
+        run(args);
+        assertThat(Files.readString(patch)).contains("+    assertThat(list).hasSize(3);");
+    }
+
+    @Test
+    void rejectsMissingSourceRoot() throws IOException, InterruptedException {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = AssertjRefactoringCli.run(
+                ImmutableList.of("--output", temp.resolve("assertj.patch").toString()),
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertThat(exitCode).isEqualTo(2);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("At least one --source-root is required");
+    }
+
+    private static String run(ImmutableList<String> args) throws IOException, InterruptedException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = AssertjRefactoringCli.run(
+                args,
+                new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+        assertThat(exitCode).describedAs(err.toString(StandardCharsets.UTF_8)).isZero();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Path write(Path path, String... lines) throws IOException {
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, String.join("\n", lines) + "\n");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultCacheTest {
+
+    private static final String SOURCE = "class FooTest {}\n";
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void reusesResultsWithSameOptions() throws IOException {
+        create("-Xlint:none").store(SOURCE, "class BarTest {}\n");
+
+        assertThat(create("-Xlint:none").lookup(SOURCE)).hasValue("class BarTest {}\n");
+    }
+
+    @Test
+    void missesWhenJavacOptionsChange() throws IOException {
+        create("-Xlint:none").store(SOURCE, SOURCE);
+
+        assertThat(create("-Xlint:all").lookup(SOURCE)).isEmpty();
+        assertThat(create().lookup(SOURCE)).isEmpty();
+    }
+
+    @Test
+    void missesWhenJavacOptionsAreSplitDifferently() throws IOException {
+        create("-Xa", "b").store(SOURCE, SOURCE);
+
+        assertThat(create("-Xab").lookup(SOURCE)).isEmpty();
+        assertThat(create("-Xa", "b").lookup(SOURCE)).hasValue(SOURCE);
+    }
+
+    private ResultCache create(String... javacOptions) throws IOException {
+        ImmutableList.Builder<String> args = ImmutableList.<String>builder()
+                .add("--source-root", temp.resolve("src").toString())
+                .add("--output", temp.resolve("assertj.patch").toString());
+        for (String option : javacOptions) {
+            args.add("--javac-option", option);
+        }
+        return ResultCache.create(temp.resolve("cache"), Options.parse(args.build()));
+    }
+}
@@ -17,6 +17,7 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
@@ -80,6 +81,11 @@ public final class AssertjBooleanAssert implements AssertjChecker {
         };
     }
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("isEqualTo", "isNotEqualTo");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (!matcher.matches(tree, state)) {
@@ -18,6 +18,7 @@ package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Matcher;
@@ -50,6 +51,11 @@ public final class AssertjBooleanConjunction implements AssertjChecker {
 
     private final AssertjSingleAssertMatcher matcher = AssertjSingleAssertMatcher.of(this::match);
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("isTrue");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (isTrue.matches(tree, state) && isStatement.matches(tree, state)) {
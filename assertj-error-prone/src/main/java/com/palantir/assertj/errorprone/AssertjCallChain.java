@@ -0,0 +1,179 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.matchers.Matcher;
+import com.google.errorprone.matchers.Matchers;
+import com.google.errorprone.matchers.method.MethodMatchers;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import javax.lang.model.type.TypeKind;
+
+/**
+ * Model of a complete AssertJ statement, e.g. {@code assertThat(value).describedAs("desc").isNotNull().isEqualTo(1)}.
+ * The model is parsed at most once per statement and shared by all {@link AssertjChecker checks} which inspect it.
+ */
+final class AssertjCallChain {
+
+    private static final Matcher<ExpressionTree> ASSERT_THAT = MethodMatchers.staticMethod()
+            .onClass("org.assertj.core.api.Assertions")
+            .named("assertThat");
+
+    private static final Matcher<ExpressionTree> ASSERTION = MethodMatchers.instanceMethod()
+            .onDescendantOf("org.assertj.core.api.Assert")
+            .withAnyName();
+
+    // Matches metadata methods which only impact messages.
+    private static final Matcher<ExpressionTree> METADATA_METHOD = Matchers.anyOf(
+            MethodMatchers.instanceMethod()
+                    .onDescendantOf("org.assertj.core.api.Descriptable")
+                    .namedAnyOf("as", "describedAs"),
+            MethodMatchers.instanceMethod()
+                    .onDescendantOf("org.assertj.core.api.Assert")
+                    .namedAnyOf("withRepresentation", "withThreadDumpOnError"),
+            MethodMatchers.instanceMethod()
+                    .onDescendantOf("org.assertj.core.api.AbstractAssert")
+                    .namedAnyOf("overridingErrorMessage", "withFailMessage"));
+
+    private static final Matcher<Tree> SINGLE_STATEMENT = Matchers.parentNode(Matchers.anyOf(
+            Matchers.kindIs(Tree.Kind.EXPRESSION_STATEMENT),
+            // lambda returning void
+            (tree, state) -> tree instanceof LambdaExpressionTree
+                    && state.getTypes()
+                                    .findDescriptorType(ASTHelpers.getType(tree))
+                                    .getReturnType()
+                                    .getKind()
+                            == TypeKind.VOID));
+
+    // Checks are invoked one after another on the same tree, so only the most recent statement must be retained.
+    private static final CompilationScoped<LastStatement> lastStatement = CompilationScoped.of(LastStatement::new);
+
+    private final MethodInvocationTree assertThat;
+    private final ImmutableList<MethodInvocationTree> metadata;
+    private final ImmutableList<MethodInvocationTree> checks;
+
+    private AssertjCallChain(
+            MethodInvocationTree assertThat,
+            ImmutableList<MethodInvocationTree> metadata,
+            ImmutableList<MethodInvocationTree> checks) {
+        this.assertThat = assertThat;
+        this.metadata = metadata;
+        this.checks = checks;
+    }
+
+    /**
+     * Returns the chain for the full statement {@code tree}. Only full statements are matched, otherwise dangling
+     * statements may expect the wrong type. Trailing metadata invocations, e.g. {@code .isEqualTo(1).describedAs("x")},
+     * return the assertion they are invoked on, so the final check of such a statement is matched instead. The trailing
+     * metadata invocation itself is not matched, so that checks accepting any invocation report the statement once.
+     */
+    static Optional<AssertjCallChain> ofStatement(ExpressionTree tree, VisitorState state) {
+        LastStatement last = lastStatement.get(state);
+        if (last.tree != tree) {
+            last.chain = isStatement(tree, state) ? parse(tree, state) : Optional.empty();
+            last.tree = tree;
+        }
+        return last.chain;
+    }
+
+    private static boolean isStatement(ExpressionTree tree, VisitorState state) {
+        if (METADATA_METHOD.matches(tree, state)) {
+            return false;
+        }
+        if (state.getPath().getLeaf() != tree) {
+            return SINGLE_STATEMENT.matches(tree, state);
+        }
+        TreePath path = state.getPath();
+        while (path.getParentPath() != null
+                && path.getParentPath().getLeaf() instanceof MemberSelectTree
+                && path.getParentPath().getParentPath() != null
+                && path.getParentPath().getParentPath().getLeaf() instanceof MethodInvocationTree
+                && METADATA_METHOD.matches(
+                        (MethodInvocationTree) path.getParentPath().getParentPath().getLeaf(), state)) {
+            path = path.getParentPath().getParentPath();
+        }
+        return SINGLE_STATEMENT.matches(path.getLeaf(), state.withPath(path));
+    }
+
+    private static Optional<AssertjCallChain> parse(ExpressionTree tree, VisitorState state) {
+        // Invocations are visited from the outermost check toward assertThat, and reversed once complete.
+        List<MethodInvocationTree> metadata = new ArrayList<>();
+        List<MethodInvocationTree> checks = new ArrayList<>();
+        ExpressionTree current = tree;
+        while (current != null) {
+            ExpressionTree expressionTree = ASTHelpers.stripParentheses(current);
+            if (!(expressionTree instanceof MethodInvocationTree)) {
+                return Optional.empty();
+            }
+            MethodInvocationTree methodInvocationTree = (MethodInvocationTree) expressionTree;
+            if (ASSERT_THAT.matches(methodInvocationTree, state)
+                    && methodInvocationTree.getArguments().size() == 1) {
+                return Optional.of(new AssertjCallChain(
+                        methodInvocationTree,
+                        ImmutableList.copyOf(Lists.reverse(metadata)),
+                        ImmutableList.copyOf(Lists.reverse(checks))));
+            } else if (METADATA_METHOD.matches(methodInvocationTree, state)) {
+                metadata.add(methodInvocationTree);
+            } else if (ASSERTION.matches(methodInvocationTree, state)) {
+                checks.add(methodInvocationTree);
+            } else {
+                return Optional.empty();
+            }
+            current = ASTHelpers.getReceiver(methodInvocationTree);
+        }
+        return Optional.empty();
+    }
+
+    /** The root {@code Assertions.assertThat(actual)} invocation. */
+    MethodInvocationTree assertThat() {
+        return assertThat;
+    }
+
+    /** Invocations which only impact failure messages, e.g. {@code describedAs}, in source order. */
+    ImmutableList<MethodInvocationTree> metadata() {
+        return metadata;
+    }
+
+    /** Assertion invocations in source order, excluding {@link #metadata()}. */
+    ImmutableList<MethodInvocationTree> checks() {
+        return checks;
+    }
+
+    @Override
+    public String toString() {
+        return "AssertjCallChain{assertThat=" + assertThat + ", metadata=" + metadata + ", checks=" + checks + '}';
+    }
+
+    private static final class LastStatement {
+        @Nullable
+        private ExpressionTree tree;
+
+        private Optional<AssertjCallChain> chain = Optional.empty();
+    }
+}
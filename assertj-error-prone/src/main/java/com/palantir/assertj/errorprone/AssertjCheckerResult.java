@@ -38,6 +38,11 @@ final class AssertjCheckerResult {
         return fix;
     }
 
+    /** True if a fix was provided which changes the source. */
+    boolean hasFix() {
+        return fix.isPresent() && !fix.get().isEmpty();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
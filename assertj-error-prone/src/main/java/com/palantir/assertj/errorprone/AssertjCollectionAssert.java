@@ -17,6 +17,7 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
@@ -26,6 +27,7 @@ import com.google.errorprone.matchers.Matchers;
 import com.google.errorprone.matchers.method.MethodMatchers;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
 import java.util.Optional;
 
@@ -55,6 +57,11 @@ public final class AssertjCollectionAssert implements AssertjChecker {
     private static final Matcher<ExpressionTree> listMatcher = Matchers.isSubtypeOf("java.util.List");
     private static final Matcher<ExpressionTree> setMatcher = Matchers.isSubtypeOf("java.util.Set");
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("isEqualTo");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (mapEqualMatcher.matches(tree, state)) {
@@ -63,7 +70,7 @@ public final class AssertjCollectionAssert implements AssertjChecker {
             if (mapFactoryMatcher.matches(argument, state)) {
                 MethodInvocationTree mapFactoryTree = (MethodInvocationTree) argument;
 
-                if (mapFactoryTree.getArguments().isEmpty()) {
+                if (mapFactoryTree.getArguments().isEmpty() && !isChained(state)) {
                     return Optional.of(AssertjCheckerResult.builder()
                             .description(DESCRIPTION)
                             .fix(SuggestedFix.builder()
@@ -92,13 +99,15 @@ public final class AssertjCollectionAssert implements AssertjChecker {
                 MethodInvocationTree iterableFactoryTree = (MethodInvocationTree) argument;
 
                 if (iterableFactoryTree.getArguments().isEmpty()) {
-                    return Optional.of(AssertjCheckerResult.builder()
-                            .description(DESCRIPTION)
-                            .fix(SuggestedFix.builder()
-                                    .merge(SuggestedFixes.renameMethodInvocation(tree, "isEmpty", state))
-                                    .replace(argument, "")
-                                    .build())
-                            .build());
+                    if (!isChained(state)) {
+                        return Optional.of(AssertjCheckerResult.builder()
+                                .description(DESCRIPTION)
+                                .fix(SuggestedFix.builder()
+                                        .merge(SuggestedFixes.renameMethodInvocation(tree, "isEmpty", state))
+                                        .replace(argument, "")
+                                        .build())
+                                .build());
+                    }
                 } else {
                     return Optional.of(AssertjCheckerResult.builder()
                             .description(DESCRIPTION)
@@ -120,6 +129,14 @@ public final class AssertjCollectionAssert implements AssertjChecker {
         return Optional.empty();
     }
 
+    /**
+     * Returns true if the matched invocation is the receiver of another one, e.g. a trailing {@code describedAs}.
+     * {@code isEmpty} returns void, so it cannot replace such an invocation.
+     */
+    private static boolean isChained(VisitorState state) {
+        return state.getPath().getParentPath().getLeaf() instanceof MemberSelectTree;
+    }
+
     private static String getArgumentsSource(MethodInvocationTree tree, VisitorState state) {
         return state.getSourceCode()
                 .subSequence(
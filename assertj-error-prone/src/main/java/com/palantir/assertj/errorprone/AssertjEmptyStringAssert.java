@@ -17,6 +17,7 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
@@ -26,6 +27,7 @@ import com.google.errorprone.matchers.Matcher;
 import com.google.errorprone.matchers.Matchers;
 import com.google.errorprone.matchers.method.MethodMatchers;
 import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
 import java.util.List;
 import java.util.Optional;
@@ -51,6 +53,11 @@ public final class AssertjEmptyStringAssert implements AssertjChecker {
             ChildMultiMatcher.MatchType.LAST,
             Matchers.anyOf(empty));
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("isEqualTo", "isNotEqualTo");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (!matcher.matches(tree, state)) {
@@ -62,6 +69,10 @@ public final class AssertjEmptyStringAssert implements AssertjChecker {
         }
         ExpressionTree argument = Iterables.getOnlyElement(arguments);
         boolean expectEmpty = stringEqualMatcher.matches(tree, state);
+        // isEmpty returns void, so it cannot replace an invocation which is the receiver of e.g. describedAs
+        if (expectEmpty && state.getPath().getParentPath().getLeaf() instanceof MemberSelectTree) {
+            return Optional.empty();
+        }
         return Optional.of(AssertjCheckerResult.builder()
                 .description(DESCRIPTION)
                 .fix(SuggestedFix.builder()
@@ -17,6 +17,7 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
@@ -48,6 +49,11 @@ public final class AssertjEqualityOrder implements AssertjChecker {
 
     private final AssertjSingleAssertMatcher matcher = AssertjSingleAssertMatcher.of(this::match);
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("isEqualTo", "isNotEqualTo", "isSameAs", "isNotSameAs");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (EQUAL_TO.matches(tree, state)) {
@@ -17,6 +17,7 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Matcher;
@@ -53,6 +54,11 @@ public final class AssertjInstanceOfAssert implements AssertjChecker {
 
     private final AssertjSingleAssertMatcher matcher = AssertjSingleAssertMatcher.of(this::match);
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("isTrue", "isFalse");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (BOOLEAN_ASSERT.matches(tree, state)) {
@@ -63,15 +69,34 @@ public final class AssertjInstanceOfAssert implements AssertjChecker {
 
     private Optional<AssertjCheckerResult> match(
             AssertjSingleAssertMatcher.SingleAssertMatch match, VisitorState state) {
-        boolean negatedAssertion = IS_FALSE.matches(match.getCheck(), state);
-        if (!negatedAssertion && !IS_TRUE.matches(match.getCheck(), state)) {
+        ExpressionTree target = match.getAssertThat().getArguments().get(0);
+        String check = IS_FALSE.matches(match.getCheck(), state) ? "isFalse" : "isTrue";
+        return rewrite(SyntheticAssertion.of(target, check, state), state).map(rewritten -> {
+            SuggestedFix fix = SuggestedFix.builder()
+                    .replace(
+                            state.getEndPosition(
+                                    ((MemberSelectTree) match.getCheck().getMethodSelect()).getExpression()),
+                            state.getEndPosition(match.getCheck()),
+                            rewritten.checkSource())
+                    .replace(target, rewritten.actualSource())
+                    .build();
+            return AssertjCheckerResult.builder()
+                    .description(DESCRIPTION)
+                    .fix(fix)
+                    .build();
+        });
+    }
+
+    /** Rewrites {@code assertThat(a instanceof B).isTrue()} to {@code assertThat(a).isInstanceOf(B.class)}. */
+    static Optional<SyntheticAssertion> rewrite(SyntheticAssertion assertion, VisitorState state) {
+        boolean negatedAssertion = assertion.check().equals("isFalse");
+        if ((!negatedAssertion && !assertion.check().equals("isTrue")) || !assertion.hasUnmodifiedActual(state)) {
             return Optional.empty();
         }
-        ExpressionTree target = match.getAssertThat().getArguments().get(0);
-        ExpressionTree instanceOfExpression = target;
+        ExpressionTree instanceOfExpression = assertion.actual();
 
-        if (target instanceof UnaryTree) {
-            UnaryTree unaryTree = (UnaryTree) target;
+        if (instanceOfExpression instanceof UnaryTree) {
+            UnaryTree unaryTree = (UnaryTree) instanceOfExpression;
             if (unaryTree.getExpression() instanceof ParenthesizedTree) {
                 negatedAssertion = !negatedAssertion;
                 ParenthesizedTree parenthesizedTree = (ParenthesizedTree) unaryTree.getExpression();
@@ -86,17 +111,11 @@ public final class AssertjInstanceOfAssert implements AssertjChecker {
         ExpressionTree actual = instanceOfTree.getExpression();
         Tree expected = instanceOfTree.getType();
 
-        SuggestedFix fix = SuggestedFix.builder()
-                .replace(
-                        state.getEndPosition(
-                                ((MemberSelectTree) match.getCheck().getMethodSelect()).getExpression()),
-                        state.getEndPosition(match.getCheck()),
-                        String.format(
-                                negatedAssertion ? ".isNotInstanceOf(%s.class)" : ".isInstanceOf(%s.class)",
-                                state.getSourceForNode(expected)))
-                .replace(target, state.getSourceForNode(actual))
-                .build();
-        return Optional.of(
-                AssertjCheckerResult.builder().description(DESCRIPTION).fix(fix).build());
+        return Optional.of(SyntheticAssertion.of(
+                actual,
+                state.getSourceForNode(actual),
+                negatedAssertion ? "isNotInstanceOf" : "isInstanceOf",
+                Optional.empty(),
+                Optional.of(state.getSourceForNode(expected) + ".class")));
     }
 }
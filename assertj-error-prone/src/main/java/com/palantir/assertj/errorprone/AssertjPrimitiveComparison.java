@@ -17,6 +17,7 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Matcher;
@@ -55,6 +56,11 @@ public final class AssertjPrimitiveComparison implements AssertjChecker {
 
     private final AssertjSingleAssertMatcher matcher = AssertjSingleAssertMatcher.of(this::match);
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("isTrue", "isFalse");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (BOOLEAN_ASSERT.matches(tree, state)) {
@@ -65,15 +71,33 @@ public final class AssertjPrimitiveComparison implements AssertjChecker {
 
     private Optional<AssertjCheckerResult> match(
             AssertjSingleAssertMatcher.SingleAssertMatch match, VisitorState state) {
-        boolean negated = IS_FALSE.matches(match.getCheck(), state);
-        if (!negated && !IS_TRUE.matches(match.getCheck(), state)) {
-            return Optional.empty();
-        }
         ExpressionTree target = match.getAssertThat().getArguments().get(0);
-        if (!(target instanceof BinaryTree)) {
+        String check = IS_FALSE.matches(match.getCheck(), state) ? "isFalse" : "isTrue";
+        return rewrite(SyntheticAssertion.of(target, check, state), state).map(rewritten -> {
+            SuggestedFix fix = SuggestedFix.builder()
+                    .replace(
+                            state.getEndPosition(
+                                    ((MemberSelectTree) match.getCheck().getMethodSelect()).getExpression()),
+                            state.getEndPosition(match.getCheck()),
+                            rewritten.checkSource())
+                    .replace(target, rewritten.actualSource())
+                    .build();
+            return AssertjCheckerResult.builder()
+                    .description(DESCRIPTION)
+                    .fix(fix)
+                    .build();
+        });
+    }
+
+    /** Rewrites {@code assertThat(a == b).isTrue()} to {@code assertThat(a).isEqualTo(b)}. */
+    static Optional<SyntheticAssertion> rewrite(SyntheticAssertion assertion, VisitorState state) {
+        boolean negated = assertion.check().equals("isFalse");
+        if ((!negated && !assertion.check().equals("isTrue"))
+                || !assertion.hasUnmodifiedActual(state)
+                || !(assertion.actual() instanceof BinaryTree)) {
             return Optional.empty();
         }
-        BinaryTree binaryTree = (BinaryTree) target;
+        BinaryTree binaryTree = (BinaryTree) assertion.actual();
         Optional<Type> maybeTarget = getPromotionType(binaryTree.getLeftOperand(), binaryTree.getRightOperand(), state);
         if (!maybeTarget.isPresent()) {
             return Optional.empty();
@@ -87,17 +111,12 @@ public final class AssertjPrimitiveComparison implements AssertjChecker {
         }
         ExpressionTree expected = binaryTree.getRightOperand();
         ExpressionTree actual = binaryTree.getLeftOperand();
-        SuggestedFix fix = SuggestedFix.builder()
-                .replace(
-                        state.getEndPosition(
-                                ((MemberSelectTree) match.getCheck().getMethodSelect()).getExpression()),
-                        state.getEndPosition(match.getCheck()),
-                        String.format(
-                                ".%s(%s)", comparison.get(), getExpressionSource(expected, targetType, state, false)))
-                .replace(target, getExpressionSource(actual, targetType, state, true))
-                .build();
-        return Optional.of(
-                AssertjCheckerResult.builder().description(DESCRIPTION).fix(fix).build());
+        return Optional.of(SyntheticAssertion.of(
+                actual,
+                getExpressionSource(actual, targetType, state, true),
+                comparison.get(),
+                Optional.of(expected),
+                Optional.of(getExpressionSource(expected, targetType, state, false))));
     }
 
     private static String getExpressionSource(
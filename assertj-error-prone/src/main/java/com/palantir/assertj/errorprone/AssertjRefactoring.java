@@ -19,65 +19,38 @@ package com.palantir.assertj.errorprone;
 import com.google.auto.service.AutoService;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.BugPattern;
+import com.google.errorprone.ErrorProneFlags;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.matchers.Description;
-import com.sun.source.tree.AnnotatedTypeTree;
-import com.sun.source.tree.AnnotationTree;
-import com.sun.source.tree.ArrayAccessTree;
-import com.sun.source.tree.ArrayTypeTree;
-import com.sun.source.tree.AssertTree;
-import com.sun.source.tree.AssignmentTree;
-import com.sun.source.tree.BinaryTree;
-import com.sun.source.tree.BlockTree;
-import com.sun.source.tree.BreakTree;
-import com.sun.source.tree.CaseTree;
-import com.sun.source.tree.CatchTree;
-import com.sun.source.tree.ClassTree;
-import com.sun.source.tree.CompilationUnitTree;
-import com.sun.source.tree.CompoundAssignmentTree;
-import com.sun.source.tree.ConditionalExpressionTree;
-import com.sun.source.tree.ContinueTree;
-import com.sun.source.tree.DoWhileLoopTree;
-import com.sun.source.tree.EmptyStatementTree;
-import com.sun.source.tree.EnhancedForLoopTree;
-import com.sun.source.tree.ExpressionStatementTree;
-import com.sun.source.tree.ForLoopTree;
+import com.sun.source.tree.ExpressionTree;
 import com.sun.source.tree.IdentifierTree;
-import com.sun.source.tree.IfTree;
-import com.sun.source.tree.ImportTree;
-import com.sun.source.tree.InstanceOfTree;
-import com.sun.source.tree.IntersectionTypeTree;
-import com.sun.source.tree.LabeledStatementTree;
-import com.sun.source.tree.LambdaExpressionTree;
-import com.sun.source.tree.LiteralTree;
-import com.sun.source.tree.MemberReferenceTree;
 import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
-import com.sun.source.tree.MethodTree;
-import com.sun.source.tree.ModifiersTree;
-import com.sun.source.tree.NewArrayTree;
-import com.sun.source.tree.NewClassTree;
-import com.sun.source.tree.ParameterizedTypeTree;
-import com.sun.source.tree.ParenthesizedTree;
-import com.sun.source.tree.PrimitiveTypeTree;
-import com.sun.source.tree.ReturnTree;
-import com.sun.source.tree.SwitchTree;
-import com.sun.source.tree.SynchronizedTree;
-import com.sun.source.tree.ThrowTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.TryTree;
-import com.sun.source.tree.TypeCastTree;
-import com.sun.source.tree.TypeParameterTree;
-import com.sun.source.tree.UnaryTree;
-import com.sun.source.tree.UnionTypeTree;
-import com.sun.source.tree.VariableTree;
-import com.sun.source.tree.WhileLoopTree;
-import com.sun.source.tree.WildcardTree;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
-
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+
+/**
+ * {@link AssertjRefactoring} runs every discovered {@link AssertjChecker}. It only implements the matcher interfaces
+ * corresponding to {@link AssertjChecker} match methods so that error-prone doesn't invoke it for tree kinds which no
+ * check inspects.
+ *
+ * <p>Passing {@code -XepOpt:AssertjRefactoring:Instrument=true} records per-check invocation counts, match counts and
+ * timings, which are printed once compilation completes. Each check execution is also reported as a
+ * {@link CheckExecutionEvent} when that Java Flight Recorder event is enabled. Findings may be exported as JSON using
+ * {@link FindingsReporter}.
+ */
 @AutoService(BugChecker.class)
 @BugPattern(
         name = "AssertjRefactoring",
@@ -87,488 +60,219 @@ import java.util.ServiceLoader;
         summary = "AssertJ statements may be refactored to be more readable or produce more helpful debugging "
                 + "information on failure.")
 public final class AssertjRefactoring extends BugChecker
-        implements BugChecker.AnnotatedTypeTreeMatcher,
-                BugChecker.AnnotationTreeMatcher,
-                BugChecker.ArrayAccessTreeMatcher,
-                BugChecker.ArrayTypeTreeMatcher,
-                BugChecker.AssertTreeMatcher,
-                BugChecker.AssignmentTreeMatcher,
-                BugChecker.BinaryTreeMatcher,
-                BugChecker.BlockTreeMatcher,
-                BugChecker.BreakTreeMatcher,
-                BugChecker.CaseTreeMatcher,
-                BugChecker.CatchTreeMatcher,
-                BugChecker.ClassTreeMatcher,
-                BugChecker.CompilationUnitTreeMatcher,
-                BugChecker.CompoundAssignmentTreeMatcher,
-                BugChecker.ConditionalExpressionTreeMatcher,
-                BugChecker.ContinueTreeMatcher,
-                BugChecker.DoWhileLoopTreeMatcher,
-                BugChecker.EmptyStatementTreeMatcher,
-                BugChecker.EnhancedForLoopTreeMatcher,
-                BugChecker.ExpressionStatementTreeMatcher,
-                BugChecker.ForLoopTreeMatcher,
-                BugChecker.IdentifierTreeMatcher,
-                BugChecker.IfTreeMatcher,
-                BugChecker.ImportTreeMatcher,
-                BugChecker.InstanceOfTreeMatcher,
-                BugChecker.IntersectionTypeTreeMatcher,
-                BugChecker.LabeledStatementTreeMatcher,
-                BugChecker.LambdaExpressionTreeMatcher,
-                BugChecker.LiteralTreeMatcher,
-                BugChecker.MemberReferenceTreeMatcher,
-                BugChecker.MemberSelectTreeMatcher,
-                BugChecker.MethodInvocationTreeMatcher,
-                BugChecker.MethodTreeMatcher,
-                BugChecker.ModifiersTreeMatcher,
-                BugChecker.NewArrayTreeMatcher,
-                BugChecker.NewClassTreeMatcher,
-                BugChecker.ParameterizedTypeTreeMatcher,
-                BugChecker.ParenthesizedTreeMatcher,
-                BugChecker.PrimitiveTypeTreeMatcher,
-                BugChecker.ReturnTreeMatcher,
-                BugChecker.SwitchTreeMatcher,
-                BugChecker.SynchronizedTreeMatcher,
-                BugChecker.ThrowTreeMatcher,
-                BugChecker.TryTreeMatcher,
-                BugChecker.TypeCastTreeMatcher,
-                BugChecker.TypeParameterTreeMatcher,
-                BugChecker.UnaryTreeMatcher,
-                BugChecker.UnionTypeTreeMatcher,
-                BugChecker.VariableTreeMatcher,
-                BugChecker.WhileLoopTreeMatcher,
-                BugChecker.WildcardTreeMatcher {
-
-    private static final ImmutableList<AssertjChecker> discoveredChecks =
-            ImmutableList.copyOf(ServiceLoader.load(AssertjChecker.class, AssertjRefactoring.class.getClassLoader()));
-
-    private final AssertjChecker[] checks;
-
-    @SuppressWarnings("unused") // Required by ServiceLoader
-    public AssertjRefactoring() {
-        this(discoveredChecks.toArray(new AssertjChecker[0]));
-    }
-
-    @VisibleForTesting
-    AssertjRefactoring(AssertjChecker... checks) {
-        this.checks = checks;
-    }
-
-    @Override
-    public Description matchAnnotatedType(AnnotatedTypeTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchAnnotatedType(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+        implements BugChecker.MethodInvocationTreeMatcher, BugChecker.TryTreeMatcher {
 
-    @Override
-    public Description matchAnnotation(AnnotationTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchAnnotation(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    private static final String INSTRUMENT_FLAG = "AssertjRefactoring:Instrument";
 
-    @Override
-    public Description matchArrayAccess(ArrayAccessTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchArrayAccess(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    // Comma separated simple class names of checks which are never invoked, e.g. AssertjCollectionAssert.
+    private static final String DISABLED_CHECKS_FLAG = "AssertjRefactoring:DisabledChecks";
 
-    @Override
-    public Description matchArrayType(ArrayTypeTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchArrayType(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchAssert(AssertTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchAssert(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchAssignment(AssignmentTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchAssignment(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchBinary(BinaryTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchBinary(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchBlock(BlockTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchBlock(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchBreak(BreakTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchBreak(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchCase(CaseTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchCase(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchCatch(CatchTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchCatch(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchClass(ClassTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchClass(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchCompilationUnit(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchCompoundAssignment(CompoundAssignmentTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchCompoundAssignment(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchConditionalExpression(ConditionalExpressionTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchConditionalExpression(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchContinue(ContinueTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchContinue(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    private static final ImmutableList<AssertjChecker> discoveredChecks =
+            ImmutableList.copyOf(ServiceLoader.load(AssertjChecker.class, AssertjRefactoring.class.getClassLoader()));
 
-    @Override
-    public Description matchDoWhileLoop(DoWhileLoopTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchDoWhileLoop(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    // Each array contains only the checks which override the corresponding AssertjChecker match method, the
+    // remaining checks would return Optional.empty() for every tree of that kind.
+    private final AssertjChecker[] methodInvocationChecks;
+    private final AssertjChecker[] tryChecks;
 
-    @Override
-    public Description matchEmptyStatement(EmptyStatementTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchEmptyStatement(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    // Method invocation checks are further narrowed by the simple name of the invoked method, based on
+    // AssertjChecker.methodInvocationNames. Names without an entry are only forwarded to checks which accept any name.
+    private final ImmutableMap<String, AssertjChecker[]> methodInvocationChecksByName;
+    private final AssertjChecker[] anyNameMethodInvocationChecks;
 
-    @Override
-    public Description matchEnhancedForLoop(EnhancedForLoopTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchEnhancedForLoop(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    // Names which may be used to suppress an individual check, see SubcheckSuppression.
+    private final ImmutableSet<String> checkNames;
 
-    @Override
-    public Description matchExpressionStatement(ExpressionStatementTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchExpressionStatement(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    @Nullable
+    private final CheckerStatistics statistics;
 
-    @Override
-    public Description matchForLoop(ForLoopTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchForLoop(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    @Nullable
+    private final FindingsReporter findings;
 
-    @Override
-    public Description matchIdentifier(IdentifierTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchIdentifier(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
+    // Read once per compilation, so that no CheckExecutionEvent is allocated while the event is disabled.
+    private final boolean recordEvents;
 
-    @Override
-    public Description matchIf(IfTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchIf(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchImport(ImportTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchImport(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchInstanceOf(InstanceOfTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchInstanceOf(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchIntersectionType(IntersectionTypeTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchIntersectionType(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchLabeledStatement(LabeledStatementTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchLabeledStatement(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchLambdaExpression(LambdaExpressionTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchLambdaExpression(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
+    @SuppressWarnings("unused") // Required by ServiceLoader
+    public AssertjRefactoring() {
+        this(discoveredChecks.toArray(new AssertjChecker[0]));
     }
 
-    @Override
-    public Description matchLiteral(LiteralTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchLiteral(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
+    @Inject
+    public AssertjRefactoring(ErrorProneFlags flags) {
+        this(
+                flags.getBoolean(INSTRUMENT_FLAG).orElse(false) ? new CheckerStatistics() : null,
+                FindingsReporter.fromFlags(flags).orElse(null),
+                enabled(discoveredChecks, flags.getListOrEmpty(DISABLED_CHECKS_FLAG)));
     }
 
-    @Override
-    public Description matchMemberReference(MemberReferenceTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchMemberReference(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
+    @VisibleForTesting
+    AssertjRefactoring(AssertjChecker... checks) {
+        this(null, null, checks);
     }
 
-    @Override
-    public Description matchMemberSelect(MemberSelectTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchMemberSelect(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
+    private AssertjRefactoring(
+            @Nullable CheckerStatistics statistics, @Nullable FindingsReporter findings, AssertjChecker[] checks) {
+        this.statistics = statistics;
+        this.findings = findings;
+        this.recordEvents = CheckExecutionEvent.isEnabled();
+        this.methodInvocationChecks =
+                instrument(statistics, checks, "matchMethodInvocation", MethodInvocationTree.class);
+        this.tryChecks = instrument(statistics, checks, "matchTry", TryTree.class);
+        this.methodInvocationChecksByName = byMethodInvocationName(methodInvocationChecks);
+        this.anyNameMethodInvocationChecks = Arrays.stream(methodInvocationChecks)
+                .filter(check -> check.methodInvocationNames().isEmpty())
+                .toArray(AssertjChecker[]::new);
+        this.checkNames =
+                Arrays.stream(checks).map(AssertjRefactoring::checkName).collect(ImmutableSet.toImmutableSet());
     }
 
     @Override
     public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchMethodInvocation(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchMethod(MethodTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchMethod(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchModifiers(ModifiersTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchModifiers(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchNewArray(NewArrayTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchNewArray(tree, state), tree, state);
+        if (!TestFrameworkUsage.isReferenced(state)) {
+            return Description.NO_MATCH;
         }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchNewClass(NewClassTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchNewClass(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchParameterizedType(ParameterizedTypeTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchParameterizedType(tree, state), tree, state);
+        if (statistics != null) {
+            statistics.reportOnCompletion(state);
         }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchParenthesized(ParenthesizedTree tree, VisitorState state) {
+        AssertjChecker[] checks =
+                methodInvocationChecksByName.getOrDefault(methodName(tree), anyNameMethodInvocationChecks);
+        ImmutableSet<String> suppressed = SubcheckSuppression.suppressedAt(state, checkNames);
         for (AssertjChecker checker : checks) {
-            describe(checker.matchParenthesized(tree, state), tree, state);
+            if (!suppressed.isEmpty() && suppressed.contains(checkName(checker))) {
+                continue;
+            }
+            Optional<AssertjCheckerResult> result;
+            if (recordEvents) {
+                CheckExecutionEvent event = CheckExecutionEvent.start();
+                result = checker.matchMethodInvocation(tree, state);
+                event.end(CheckerStatistics.checkClass(checker), tree, state, result);
+            } else {
+                result = checker.matchMethodInvocation(tree, state);
+            }
+            describe(checker, result, tree, state);
         }
         return Description.NO_MATCH;
     }
 
     @Override
-    public Description matchPrimitiveType(PrimitiveTypeTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchPrimitiveType(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchReturn(ReturnTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchReturn(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchSwitch(SwitchTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchSwitch(tree, state), tree, state);
+    public Description matchTry(TryTree tree, VisitorState state) {
+        if (!TestFrameworkUsage.isReferenced(state)) {
+            return Description.NO_MATCH;
+        }
+        if (statistics != null) {
+            statistics.reportOnCompletion(state);
         }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchSynchronized(SynchronizedTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchSynchronized(tree, state), tree, state);
+        ImmutableSet<String> suppressed = SubcheckSuppression.suppressedAt(state, checkNames);
+        for (AssertjChecker checker : tryChecks) {
+            if (!suppressed.isEmpty() && suppressed.contains(checkName(checker))) {
+                continue;
+            }
+            Optional<AssertjCheckerResult> result;
+            if (recordEvents) {
+                CheckExecutionEvent event = CheckExecutionEvent.start();
+                result = checker.matchTry(tree, state);
+                event.end(CheckerStatistics.checkClass(checker), tree, state, result);
+            } else {
+                result = checker.matchTry(tree, state);
+            }
+            describe(checker, result, tree, state);
         }
         return Description.NO_MATCH;
     }
 
-    @Override
-    public Description matchThrow(ThrowTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchThrow(tree, state), tree, state);
+    /** Returns {@code checks} excluding those named by {@link #DISABLED_CHECKS_FLAG}. */
+    private static AssertjChecker[] enabled(ImmutableList<AssertjChecker> checks, List<String> disabled) {
+        Set<String> unknown = new LinkedHashSet<>(disabled);
+        checks.forEach(check -> unknown.remove(checkName(check)));
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Unknown checks in " + DISABLED_CHECKS_FLAG + ": " + String.join(", ", unknown));
         }
-        return Description.NO_MATCH;
+        return checks.stream()
+                .filter(check -> !disabled.contains(checkName(check)))
+                .toArray(AssertjChecker[]::new);
     }
 
-    @Override
-    public Description matchTry(TryTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchTry(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
+    /** The name of a check, which may be used to disable or suppress it. */
+    private static String checkName(AssertjChecker check) {
+        return CheckerStatistics.checkClass(check).getSimpleName();
     }
 
-    @Override
-    public Description matchTypeCast(TypeCastTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchTypeCast(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
+    /** Returns the subset of {@code checks} which override the given {@link AssertjChecker} match method. */
+    private static AssertjChecker[] overriding(
+            AssertjChecker[] checks, String matchMethod, Class<? extends Tree> treeType) {
+        return Arrays.stream(checks)
+                .filter(check -> overrides(check, matchMethod, treeType))
+                .toArray(AssertjChecker[]::new);
     }
 
-    @Override
-    public Description matchTypeParameter(TypeParameterTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchTypeParameter(tree, state), tree, state);
+    private static boolean overrides(AssertjChecker check, String matchMethod, Class<? extends Tree> treeType) {
+        try {
+            return check.getClass()
+                            .getMethod(matchMethod, treeType, VisitorState.class)
+                            .getDeclaringClass()
+                    != AssertjChecker.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("AssertjChecker does not declare " + matchMethod, e);
         }
-        return Description.NO_MATCH;
     }
 
-    @Override
-    public Description matchUnary(UnaryTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchUnary(tree, state), tree, state);
-        }
-        return Description.NO_MATCH;
+    /** Returns the {@link #overriding} checks, recording their invocations when instrumentation is enabled. */
+    private static AssertjChecker[] instrument(
+            @Nullable CheckerStatistics statistics,
+            AssertjChecker[] checks,
+            String matchMethod,
+            Class<? extends Tree> treeType) {
+        AssertjChecker[] result = overriding(checks, matchMethod, treeType);
+        return statistics == null ? result : statistics.instrument(result, matchMethod);
     }
 
-    @Override
-    public Description matchUnionType(UnionTypeTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchUnionType(tree, state), tree, state);
+    /**
+     * Groups {@code checks} by each name they declare in {@link AssertjChecker#methodInvocationNames()}. Checks which
+     * accept any name are included in every group, and the original order of checks is retained within each group.
+     */
+    private static ImmutableMap<String, AssertjChecker[]> byMethodInvocationName(AssertjChecker[] checks) {
+        Set<String> names = new LinkedHashSet<>();
+        for (AssertjChecker check : checks) {
+            names.addAll(check.methodInvocationNames());
         }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchVariable(VariableTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchVariable(tree, state), tree, state);
+        ImmutableMap.Builder<String, AssertjChecker[]> result = ImmutableMap.builder();
+        for (String name : names) {
+            result.put(
+                    name,
+                    Arrays.stream(checks)
+                            .filter(check -> check.methodInvocationNames().isEmpty()
+                                    || check.methodInvocationNames().contains(name))
+                            .toArray(AssertjChecker[]::new));
         }
-        return Description.NO_MATCH;
+        return result.buildOrThrow();
     }
 
-    @Override
-    public Description matchWhileLoop(WhileLoopTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchWhileLoop(tree, state), tree, state);
+    /** Reads the invoked method name from source without resolving the method symbol. */
+    @Nullable
+    private static String methodName(MethodInvocationTree tree) {
+        ExpressionTree methodSelect = tree.getMethodSelect();
+        if (methodSelect instanceof MemberSelectTree) {
+            return ((MemberSelectTree) methodSelect).getIdentifier().toString();
         }
-        return Description.NO_MATCH;
-    }
-
-    @Override
-    public Description matchWildcard(WildcardTree tree, VisitorState state) {
-        for (AssertjChecker checker : checks) {
-            describe(checker.matchWildcard(tree, state), tree, state);
+        if (methodSelect instanceof IdentifierTree) {
+            return ((IdentifierTree) methodSelect).getName().toString();
         }
-        return Description.NO_MATCH;
-    }
+        return null;
+    }
 
-    private void describe(Optional<AssertjCheckerResult> result, Tree tree, VisitorState state) {
+    private void describe(
+            AssertjChecker checker, Optional<AssertjCheckerResult> result, Tree tree, VisitorState state) {
         if (result.isPresent()) {
             AssertjCheckerResult value = result.get();
-            state.reportMatch(buildDescription(tree)
+            Description description = buildDescription(tree)
                     .setMessage(value.description())
                     .addFix(value.fix())
-                    .build());
+                    .build();
+            state.reportMatch(description);
+            if (findings != null) {
+                findings.record(checkName(checker), description, state);
+            }
         }
     }
 }
@@ -17,6 +17,7 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
@@ -86,6 +87,11 @@ public final class AssertjSameSizeAs implements AssertjChecker {
             Matchers.methodInvocation(
                     csHasSizeMatcher, ChildMultiMatcher.MatchType.ALL, Matchers.anyOf(csSizeMatcher)));
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return ImmutableSet.of("hasSize");
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         if (!matcher.matches(tree, state)) {
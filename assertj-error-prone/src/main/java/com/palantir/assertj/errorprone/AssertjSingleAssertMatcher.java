@@ -17,52 +17,13 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.matchers.Matcher;
-import com.google.errorprone.matchers.Matchers;
-import com.google.errorprone.matchers.method.MethodMatchers;
-import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ExpressionTree;
-import com.sun.source.tree.LambdaExpressionTree;
 import com.sun.source.tree.MethodInvocationTree;
-import com.sun.source.tree.Tree;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
-import javax.lang.model.type.TypeKind;
 
 final class AssertjSingleAssertMatcher {
 
-    private static final Matcher<ExpressionTree> ASSERT_THAT = MethodMatchers.staticMethod()
-            .onClass("org.assertj.core.api.Assertions")
-            .named("assertThat");
-
-    private static final Matcher<ExpressionTree> ASSERTION = MethodMatchers.instanceMethod()
-            .onDescendantOf("org.assertj.core.api.Assert")
-            .withAnyName();
-
-    // Matches metadata methods which only impact messages.
-    private static final Matcher<ExpressionTree> METADATA_METHOD = Matchers.anyOf(
-            MethodMatchers.instanceMethod()
-                    .onDescendantOf("org.assertj.core.api.Descriptable")
-                    .namedAnyOf("as", "describedAs"),
-            MethodMatchers.instanceMethod()
-                    .onDescendantOf("org.assertj.core.api.Assert")
-                    .namedAnyOf("withRepresentation", "withThreadDumpOnError"),
-            MethodMatchers.instanceMethod()
-                    .onDescendantOf("org.assertj.core.api.AbstractAssert")
-                    .namedAnyOf("overridingErrorMessage", "withFailMessage"));
-
-    private static final Matcher<Tree> SINGLE_STATEMENT = Matchers.parentNode(Matchers.anyOf(
-            Matchers.kindIs(Tree.Kind.EXPRESSION_STATEMENT),
-            // lambda returning void
-            (tree, state) -> tree instanceof LambdaExpressionTree
-                    && state.getTypes()
-                                    .findDescriptorType(ASTHelpers.getType(tree))
-                                    .getReturnType()
-                                    .getKind()
-                            == TypeKind.VOID));
-
     private final BiFunction<SingleAssertMatch, VisitorState, Optional<AssertjCheckerResult>> function;
 
     static AssertjSingleAssertMatcher of(
@@ -76,42 +37,13 @@ final class AssertjSingleAssertMatcher {
     }
 
     public Optional<AssertjCheckerResult> matches(ExpressionTree tree, VisitorState state) {
-        // Only match full statements, otherwise dangling statements may expect the wrong type.
-        if (!SINGLE_STATEMENT.matches(tree, state)) {
-            return Optional.empty();
-        }
-        return matchAssertj(tree, state)
-                .flatMap(list -> list.size() == 2
-                        ? Optional.of(new SingleAssertMatch(list.get(0), list.get(1)))
+        return AssertjCallChain.ofStatement(tree, state)
+                .flatMap(chain -> chain.checks().size() == 1
+                        ? Optional.of(new SingleAssertMatch(chain.assertThat(), chain.checks().get(0)))
                         : Optional.empty())
                 .flatMap(result -> function.apply(result, state));
     }
 
-    private static Optional<List<MethodInvocationTree>> matchAssertj(
-            ExpressionTree inputExpressionTree, VisitorState state) {
-        if (inputExpressionTree == null) {
-            return Optional.empty();
-        }
-        ExpressionTree expressionTree = ASTHelpers.stripParentheses(inputExpressionTree);
-        if (expressionTree instanceof MethodInvocationTree) {
-            MethodInvocationTree methodInvocationTree = (MethodInvocationTree) expressionTree;
-            if (ASSERT_THAT.matches(methodInvocationTree, state)
-                    && methodInvocationTree.getArguments().size() == 1) {
-                List<MethodInvocationTree> results = new ArrayList<>();
-                results.add(methodInvocationTree);
-                return Optional.of(results);
-            } else if (METADATA_METHOD.matches(methodInvocationTree, state)) {
-                return matchAssertj(ASTHelpers.getReceiver(methodInvocationTree), state);
-            } else if (ASSERTION.matches(methodInvocationTree, state)) {
-                Optional<List<MethodInvocationTree>> result =
-                        matchAssertj(ASTHelpers.getReceiver(methodInvocationTree), state);
-                result.ifPresent(list -> list.add(methodInvocationTree));
-                return result;
-            }
-        }
-        return Optional.empty();
-    }
-
     static final class SingleAssertMatch {
         private final MethodInvocationTree assertThat;
         private final MethodInvocationTree check;
@@ -17,6 +17,8 @@
 package com.palantir.assertj.errorprone;
 
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.SuggestedFix;
@@ -27,6 +29,7 @@ import com.google.errorprone.matchers.method.MethodMatchers;
 import com.google.errorprone.predicates.TypePredicates;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
 import com.sun.tools.javac.code.Symbol;
 import java.util.Collection;
@@ -65,36 +68,33 @@ public final class AssertjSize implements AssertjChecker {
                         && state.getTypes().isArray(ASTHelpers.getReceiverType(expressionTree));
             }));
 
-    private static final Matcher<ExpressionTree> isEqualTo = MethodMatchers.instanceMethod()
-            .onDescendantOf("org.assertj.core.api.Assert")
-            .named("isEqualTo");
-    private static final Matcher<ExpressionTree> isLessThan = MethodMatchers.instanceMethod()
-            .onDescendantOf("org.assertj.core.api.Assert")
-            .namedAnyOf("isLessThan");
-    private static final Matcher<ExpressionTree> isLessThanOrEqualTo = MethodMatchers.instanceMethod()
-            .onDescendantOf("org.assertj.core.api.Assert")
-            .namedAnyOf("isLessThanOrEqualTo");
-    private static final Matcher<ExpressionTree> isGreaterThan = MethodMatchers.instanceMethod()
-            .onDescendantOf("org.assertj.core.api.Assert")
-            .namedAnyOf("isGreaterThan");
-    private static final Matcher<ExpressionTree> isGreaterThanOrEqualTo = MethodMatchers.instanceMethod()
-            .onDescendantOf("org.assertj.core.api.Assert")
-            .namedAnyOf("isGreaterThanOrEqualTo");
-    private static final Matcher<ExpressionTree> isZero = MethodMatchers.instanceMethod()
+    // Size assertions which replace each assertion on the size, keyed by the simple name of the replaced assertion.
+    private static final ImmutableMap<String, String> SIZE_ASSERTIONS = ImmutableMap.<String, String>builder()
+            .put("isEqualTo", "hasSize")
+            .put("isLessThan", "hasSizeLessThan")
+            .put("isLessThanOrEqualTo", "hasSizeLessThanOrEqualTo")
+            .put("isGreaterThan", "hasSizeGreaterThan")
+            .put("isGreaterThanOrEqualTo", "hasSizeGreaterThanOrEqualTo")
+            .put("isZero", "isEmpty")
+            .put("isNotZero", "isNotEmpty")
+            .buildOrThrow();
+
+    private static final Matcher<ExpressionTree> comparisonTo = MethodMatchers.instanceMethod()
             .onDescendantOf("org.assertj.core.api.Assert")
-            .namedAnyOf("isZero")
-            .withNoParameters();
-    private static final Matcher<ExpressionTree> isNotZero = MethodMatchers.instanceMethod()
+            .namedAnyOf("isEqualTo", "isLessThan", "isLessThanOrEqualTo", "isGreaterThan", "isGreaterThanOrEqualTo");
+
+    private static final Matcher<ExpressionTree> globalComparison = MethodMatchers.instanceMethod()
             .onDescendantOf("org.assertj.core.api.Assert")
-            .namedAnyOf("isNotZero")
+            .namedAnyOf("isZero", "isNotZero")
             .withNoParameters();
-    private static final Matcher<ExpressionTree> comparisonTo =
-            Matchers.anyOf(isEqualTo, isLessThan, isLessThanOrEqualTo, isGreaterThan, isGreaterThanOrEqualTo);
-
-    private static final Matcher<ExpressionTree> globalComparison = Matchers.anyOf(isZero, isNotZero);
 
     private final AssertjSingleAssertMatcher matcher = AssertjSingleAssertMatcher.of(this::match);
 
+    @Override
+    public ImmutableSet<String> methodInvocationNames() {
+        return SIZE_ASSERTIONS.keySet();
+    }
+
     @Override
     public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
         int arguments = tree.getArguments().size();
@@ -113,7 +113,12 @@ public final class AssertjSize implements AssertjChecker {
             return Optional.empty();
         }
         MethodInvocationTree check = match.getCheck();
-        String replacementName = sizeComparisonName(check, state);
+        String replacementName = SIZE_ASSERTIONS.get(ASTHelpers.getSymbol(check).getSimpleName().toString());
+        // isEmpty returns void, so it cannot replace a check followed by trailing metadata such as describedAs
+        if (replacementName.equals("isEmpty")
+                && state.getPath().getParentPath().getLeaf() instanceof MemberSelectTree) {
+            return Optional.empty();
+        }
         SuggestedFix.Builder fix = SuggestedFix.builder()
                 .replace(tree, state.getSourceForNode(ASTHelpers.getReceiver(ASTHelpers.stripParentheses(tree))))
                 .merge(SuggestedFixes.renameMethodInvocation(check, replacementName, state));
@@ -130,28 +135,21 @@ public final class AssertjSize implements AssertjChecker {
                 .build());
     }
 
-    private static String sizeComparisonName(ExpressionTree tree, VisitorState state) {
-        if (isEqualTo.matches(tree, state)) {
-            return "hasSize";
-        }
-        if (isLessThan.matches(tree, state)) {
-            return "hasSizeLessThan";
-        }
-        if (isLessThanOrEqualTo.matches(tree, state)) {
-            return "hasSizeLessThanOrEqualTo";
-        }
-        if (isGreaterThan.matches(tree, state)) {
-            return "hasSizeGreaterThan";
-        }
-        if (isGreaterThanOrEqualTo.matches(tree, state)) {
-            return "hasSizeGreaterThanOrEqualTo";
-        }
-        if (isZero.matches(tree, state)) {
-            return "isEmpty";
-        }
-        if (isNotZero.matches(tree, state)) {
-            return "isNotEmpty";
+    /** Rewrites {@code assertThat(list.size()).isEqualTo(3)} to {@code assertThat(list).hasSize(3)}. */
+    static Optional<SyntheticAssertion> rewrite(SyntheticAssertion assertion, VisitorState state) {
+        String replacementName = SIZE_ASSERTIONS.get(assertion.check());
+        ExpressionTree tree = ASTHelpers.stripParentheses(assertion.actual());
+        if (replacementName == null || !assertion.hasUnmodifiedActual(state) || !sizeMatcher.matches(tree, state)) {
+            return Optional.empty();
         }
-        throw new IllegalArgumentException("Unexpected expression: " + state.getSourceForNode(tree));
+        Optional<String> argumentSource = assertion.argument().map(argument -> {
+            ExpressionTree stripped = ASTHelpers.stripParentheses(argument);
+            return state.getTypes().isAssignable(ASTHelpers.getType(stripped), state.getSymtab().intType)
+                    ? state.getSourceForNode(argument)
+                    : SuggestedFixes.castTree(stripped, "int", state);
+        });
+        ExpressionTree receiver = ASTHelpers.getReceiver(tree);
+        return Optional.of(SyntheticAssertion.of(
+                receiver, state.getSourceForNode(receiver), replacementName, assertion.argument(), argumentSource));
     }
 }
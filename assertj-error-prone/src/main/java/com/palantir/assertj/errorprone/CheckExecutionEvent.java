@@ -0,0 +1,91 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.Tree;
+import java.util.Optional;
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event describing a single check execution, used to attribute compiler time to individual
+ * checks. The event is disabled by default and may be enabled with a JFR setting such as
+ * {@code com.palantir.assertj.CheckExecution#enabled=true}. Checks read {@link #isEnabled()} once when they are
+ * created, i.e. once per compilation, and don't create events at all while it is disabled. Fields are only populated
+ * when the event will be committed.
+ */
+@Name("com.palantir.assertj.CheckExecution")
+@Label("AssertJ Check Execution")
+@Category({"Java Compiler", "AssertJ"})
+@Enabled(false)
+@StackTrace(false)
+final class CheckExecutionEvent extends Event {
+
+    @Label("Check")
+    private String check;
+
+    @Label("Tree Kind")
+    private String treeKind;
+
+    @Label("Source File")
+    private String sourceFile;
+
+    @Label("Fix Produced")
+    private boolean fixProduced;
+
+    private static final EventType TYPE = EventType.getEventType(CheckExecutionEvent.class);
+
+    private CheckExecutionEvent() {}
+
+    /** True if the event is enabled by a running recording. */
+    static boolean isEnabled() {
+        return TYPE.isEnabled();
+    }
+
+    /** Returns a new event, timed from now until one of the {@code end} methods is invoked. */
+    static CheckExecutionEvent start() {
+        CheckExecutionEvent event = new CheckExecutionEvent();
+        event.begin();
+        return event;
+    }
+
+    void end(Class<?> checkClass, Tree tree, VisitorState state, Description description) {
+        end(checkClass, tree, state, description != Description.NO_MATCH && !description.fixes.isEmpty());
+    }
+
+    void end(Class<?> checkClass, Tree tree, VisitorState state, Optional<AssertjCheckerResult> result) {
+        end(checkClass, tree, state, result.isPresent() && result.get().hasFix());
+    }
+
+    private void end(Class<?> checkClass, Tree tree, VisitorState state, boolean hasFix) {
+        end();
+        if (shouldCommit()) {
+            check = checkClass.getSimpleName();
+            treeKind = tree.getKind().name();
+            sourceFile = state.getPath().getCompilationUnit().getSourceFile().getName();
+            fixProduced = hasFix;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.VisitorState;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.TryTree;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.tools.javac.api.MultiTaskListener;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Log;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Records the invocation count, match count, fix count and cumulative time of each {@link AssertjChecker} match
+ * method, and prints a summary table once the compilation completes. This is used to attribute compile time
+ * regressions to individual checks, which otherwise all report under {@link AssertjRefactoring}.
+ */
+final class CheckerStatistics {
+
+    private final Context.Key<CheckerStatistics> registered = new Context.Key<>();
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+
+    /** Returns {@code checks} wrapped such that invocations of {@code matchMethod} are recorded. */
+    AssertjChecker[] instrument(AssertjChecker[] checks, String matchMethod) {
+        return Arrays.stream(checks)
+                .map(check -> new InstrumentedChecker(check, matchMethod, row(check, matchMethod)))
+                .toArray(AssertjChecker[]::new);
+    }
+
+    /** Returns the class of {@code check}, unwrapping instrumentation so results are attributed to the check. */
+    static Class<?> checkClass(AssertjChecker check) {
+        return check instanceof InstrumentedChecker
+                ? ((InstrumentedChecker) check).delegate.getClass()
+                : check.getClass();
+    }
+
+    /** Ensures the summary is printed when the current compilation completes. */
+    void reportOnCompletion(VisitorState state) {
+        Context context = state.context;
+        if (context.get(registered) != null) {
+            return;
+        }
+        context.put(registered, this);
+        MultiTaskListener.instance(context).add(new TaskListener() {
+            @Override
+            public void finished(TaskEvent event) {
+                if (event.getKind() == TaskEvent.Kind.COMPILATION) {
+                    Log.instance(context).printRawLines(Log.WriterKind.NOTICE, summary());
+                    rows.values().forEach(Row::reset);
+                }
+            }
+        });
+    }
+
+    String summary() {
+        StringBuilder summary = new StringBuilder()
+                .append(String.format(
+                        "%-40s %-22s %12s %10s %10s %12s %14s%n",
+                        "AssertjChecker",
+                        "Method",
+                        "Invocations",
+                        "Matches",
+                        "Fixes",
+                        "Total ms",
+                        "ns/invocation"));
+        rows.values().forEach(row -> summary.append(String.format(
+                "%-40s %-22s %12d %10d %10d %12d %14d%n",
+                row.checker,
+                row.matchMethod,
+                row.invocations,
+                row.matches,
+                row.fixes,
+                TimeUnit.NANOSECONDS.toMillis(row.nanos),
+                row.invocations == 0 ? 0 : row.nanos / row.invocations)));
+        return summary.toString();
+    }
+
+    private Row row(AssertjChecker check, String matchMethod) {
+        String checker = check.getClass().getSimpleName();
+        return rows.computeIfAbsent(checker + '#' + matchMethod, key -> new Row(checker, matchMethod));
+    }
+
+    private static final class Row {
+        private final String checker;
+        private final String matchMethod;
+        private long invocations;
+        private long matches;
+        private long fixes;
+        private long nanos;
+
+        Row(String checker, String matchMethod) {
+            this.checker = checker;
+            this.matchMethod = matchMethod;
+        }
+
+        <T> Optional<AssertjCheckerResult> record(
+                BiFunction<T, VisitorState, Optional<AssertjCheckerResult>> match, T tree, VisitorState state) {
+            long start = System.nanoTime();
+            Optional<AssertjCheckerResult> result = match.apply(tree, state);
+            nanos += System.nanoTime() - start;
+            invocations++;
+            if (result.isPresent()) {
+                matches++;
+                if (result.get().hasFix()) {
+                    fixes++;
+                }
+            }
+            return result;
+        }
+
+        void reset() {
+            invocations = 0;
+            matches = 0;
+            fixes = 0;
+            nanos = 0;
+        }
+    }
+
+    /** Delegates to a check, recording only invocations of the instrumented match method. */
+    private static final class InstrumentedChecker implements AssertjChecker {
+        private final AssertjChecker delegate;
+        private final String matchMethod;
+        private final Row row;
+
+        InstrumentedChecker(AssertjChecker delegate, String matchMethod, Row row) {
+            this.delegate = delegate;
+            this.matchMethod = matchMethod;
+            this.row = row;
+        }
+
+        @Override
+        public ImmutableSet<String> methodInvocationNames() {
+            return delegate.methodInvocationNames();
+        }
+
+        @Override
+        public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+            return matchMethod.equals("matchMethodInvocation")
+                    ? row.record(delegate::matchMethodInvocation, tree, state)
+                    : delegate.matchMethodInvocation(tree, state);
+        }
+
+        @Override
+        public Optional<AssertjCheckerResult> matchTry(TryTree tree, VisitorState state) {
+            return matchMethod.equals("matchTry")
+                    ? row.record(delegate::matchTry, tree, state)
+                    : delegate.matchTry(tree, state);
+        }
+
+        @Override
+        public String toString() {
+            return "InstrumentedChecker{delegate=" + delegate + ", matchMethod=" + matchMethod + '}';
+        }
+    }
+}
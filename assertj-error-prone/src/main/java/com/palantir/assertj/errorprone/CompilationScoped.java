@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.errorprone.VisitorState;
+import com.sun.tools.javac.util.Context;
+import java.util.function.Supplier;
+
+/**
+ * Holds a value for the lifetime of a single compilation. Values are registered in the javac {@link Context} rather
+ * than static fields, so compilations running concurrently in the same JVM never observe each other's state, and
+ * nothing is retained after the compilation completes.
+ */
+final class CompilationScoped<T> {
+
+    private final Context.Key<T> key = new Context.Key<>();
+    private final Supplier<T> factory;
+
+    static <T> CompilationScoped<T> of(Supplier<T> factory) {
+        return new CompilationScoped<>(factory);
+    }
+
+    private CompilationScoped(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    T get(VisitorState state) {
+        T value = state.context.get(key);
+        if (value == null) {
+            value = factory.get();
+            state.context.put(key, value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.errorprone.VisitorState;
+import com.sun.source.tree.CompilationUnitTree;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+
+/**
+ * Holds a value derived from the compilation unit which is currently being analyzed. Error-prone analyzes one
+ * compilation unit at a time, so only the value for the most recent unit is retained and it is recomputed when the
+ * next unit is visited.
+ */
+final class CompilationUnitScoped<T> {
+
+    private final CompilationScoped<Entry<T>> last = CompilationScoped.of(Entry::new);
+    private final BiFunction<CompilationUnitTree, VisitorState, T> factory;
+
+    static <T> CompilationUnitScoped<T> of(BiFunction<CompilationUnitTree, VisitorState, T> factory) {
+        return new CompilationUnitScoped<>(factory);
+    }
+
+    private CompilationUnitScoped(BiFunction<CompilationUnitTree, VisitorState, T> factory) {
+        this.factory = factory;
+    }
+
+    T get(VisitorState state) {
+        CompilationUnitTree unit = state.getPath().getCompilationUnit();
+        Entry<T> entry = last.get(state);
+        if (entry.unit != unit || entry.value == null) {
+            entry.value = factory.apply(unit, state);
+            entry.unit = unit;
+        }
+        return entry.value;
+    }
+
+    private static final class Entry<T> {
+        @Nullable
+        private CompilationUnitTree unit;
+
+        @Nullable
+        private T value;
+    }
+}
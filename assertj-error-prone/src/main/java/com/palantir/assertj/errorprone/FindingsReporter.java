@@ -0,0 +1,201 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.ErrorProneFlags;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.fixes.Fix;
+import com.google.errorprone.fixes.Replacement;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.tools.javac.api.MultiTaskListener;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * Writes findings to a file as newline-delimited JSON, one object per finding, for consumption by migration
+ * dashboards. Enabled by passing {@code -XepOpt:AssertjFindings:OutputFile=<path>}. The file is truncated when the
+ * checks are created at the start of each compilation, so it only contains the findings of the latest compilation.
+ * Compilations which run concurrently, or whose findings should all be kept, must each use a different file. Findings
+ * are buffered for the compilation unit being analyzed and appended once the next unit is reached, so memory use
+ * doesn't grow with the size of the build.
+ */
+final class FindingsReporter {
+
+    private static final String OUTPUT_FILE_FLAG = "AssertjFindings:OutputFile";
+
+    // Reporters for the same file may be used by several checks, and several compilations, concurrently.
+    private static final Object lock = new Object();
+
+    private final Context.Key<FindingsReporter> registered = new Context.Key<>();
+    private final Path outputFile;
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Nullable
+    private CompilationUnitTree bufferedUnit;
+
+    static Optional<FindingsReporter> fromFlags(ErrorProneFlags flags) {
+        return flags.get(OUTPUT_FILE_FLAG).map(outputFile -> new FindingsReporter(Paths.get(outputFile)));
+    }
+
+    private FindingsReporter(Path outputFile) {
+        this.outputFile = outputFile;
+        // Every check is created before any unit is analyzed, so this never discards findings of the same compilation
+        write(new byte[0], StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /** Records {@code description} reported by the bug checker itself, unless it is {@link Description#NO_MATCH}. */
+    void record(Description description, VisitorState state) {
+        record(description.checkName, description, state);
+    }
+
+    /**
+     * Records {@code description} unless it is {@link Description#NO_MATCH}. The {@code check} is the component which
+     * produced the finding, e.g. {@code AssertjSize} for findings reported by {@link AssertjRefactoring}.
+     */
+    void record(String check, Description description, VisitorState state) {
+        if (description == Description.NO_MATCH) {
+            return;
+        }
+        CompilationUnitTree unit = state.getPath().getCompilationUnit();
+        if (unit != bufferedUnit) {
+            flush();
+            bufferedUnit = unit;
+            flushOnCompletion(state.context);
+        }
+        int position = description.position.getStartPosition();
+        buffer.append("{\"check\":")
+                .append(quote(check))
+                .append(",\"bugPattern\":")
+                .append(quote(description.checkName))
+                .append(",\"file\":")
+                .append(quote(unit.getSourceFile().getName()))
+                .append(",\"position\":")
+                .append(position)
+                .append(",\"line\":")
+                .append(unit.getLineMap().getLineNumber(position))
+                .append(",\"column\":")
+                .append(unit.getLineMap().getColumnNumber(position))
+                .append(",\"replacementSize\":")
+                .append(replacementSize(description, unit))
+                .append(",\"message\":")
+                .append(quote(description.getRawMessage()))
+                .append("}\n");
+    }
+
+    private void flushOnCompletion(Context context) {
+        if (context.get(registered) != null) {
+            return;
+        }
+        context.put(registered, this);
+        MultiTaskListener.instance(context).add(new TaskListener() {
+            @Override
+            public void finished(TaskEvent event) {
+                if (event.getKind() == TaskEvent.Kind.COMPILATION) {
+                    flush();
+                    bufferedUnit = null;
+                }
+            }
+        });
+    }
+
+    private void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        byte[] content = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        buffer.setLength(0);
+        write(content, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void write(byte[] content, StandardOpenOption... options) {
+        synchronized (lock) {
+            try {
+                Files.write(outputFile, content, options);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write findings to " + outputFile, e);
+            }
+        }
+    }
+
+    /** Total length of replacement text in the first suggested fix, or zero when no fix is suggested. */
+    private static int replacementSize(Description description, CompilationUnitTree unit) {
+        if (description.fixes.isEmpty()) {
+            return 0;
+        }
+        Fix fix = description.fixes.get(0);
+        int size = 0;
+        for (Replacement replacement : fix.getReplacements(((JCTree.JCCompilationUnit) unit).endPositions)) {
+            size += replacement.replaceWith().length();
+        }
+        return size;
+    }
+
+    /** Returns {@code value} as a JSON string literal, escaping characters which JSON or UTF-8 can't represent. */
+    @VisibleForTesting
+    @SuppressWarnings("SwitchStatementDefaultCase")
+    static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    // Unpaired surrogates can't be encoded as UTF-8, and would otherwise be replaced by '?'
+                    if (character < 0x20 || (Character.isSurrogate(character) && !isPaired(value, i))) {
+                        quoted.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        quoted.append(character);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static boolean isPaired(String value, int index) {
+        char character = value.charAt(index);
+        return Character.isHighSurrogate(character)
+                ? index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1))
+                : index > 0 && Character.isHighSurrogate(value.charAt(index - 1));
+    }
+}
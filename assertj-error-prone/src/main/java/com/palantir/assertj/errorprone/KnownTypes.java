@@ -0,0 +1,47 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.suppliers.Supplier;
+import com.sun.tools.javac.code.Type;
+
+/**
+ * Types which checks look up by name. Each supplier resolves its type at most once per compilation, rather than
+ * repeating the {@link VisitorState#getTypeFromString(String)} lookup for every matched tree. Types which are not on
+ * the compilation classpath are supplied as {@code null}.
+ */
+final class KnownTypes {
+
+    static final Supplier<Type> STRING = typeFromString(String.class.getName());
+    static final Supplier<Type> OBJECT = typeFromString(Object.class.getName());
+    static final Supplier<Type> ITERABLE = typeFromString(Iterable.class.getName());
+    static final Supplier<Type> MAP = typeFromString("java.util.Map");
+    static final Supplier<Type> BIG_DECIMAL = typeFromString("java.math.BigDecimal");
+    static final Supplier<Type> BIG_INTEGER = typeFromString("java.math.BigInteger");
+    static final Supplier<Type> ASSERTJ_ASSERTIONS = typeFromString("org.assertj.core.api.Assertions");
+    static final Supplier<Type> JUNIT_ASSERT = typeFromString("org.junit.Assert");
+    static final Supplier<Type> HAMCREST_MATCHER_ASSERT = typeFromString("org.hamcrest.MatcherAssert");
+
+    private KnownTypes() {
+        // utility class
+    }
+
+    private static Supplier<Type> typeFromString(String typeName) {
+        return VisitorState.memoize(state -> state.getTypeFromString(typeName));
+    }
+}
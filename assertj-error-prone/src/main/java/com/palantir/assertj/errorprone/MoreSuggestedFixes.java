@@ -25,35 +25,43 @@ import javax.annotation.Nullable;
 /** Additional utility functionality for {@link SuggestedFix} objects. */
 final class MoreSuggestedFixes {
 
+    // Set once SuggestedFixes fails to link on the compiling JVM, after which the fallbacks are used directly rather
+    // than throwing and catching a LinkageError for every fix. The failure depends only on the JVM, so it's retained
+    // for the lifetime of the process.
+    private static volatile boolean unsupportedJvm;
+
     /**
      * Identical to {@link SuggestedFixes#qualifyType(VisitorState, SuggestedFix.Builder, String)} unless the compiling
      * JVM is not supported by error-prone (JDK13) in which case a fallback is attempted.
      */
     static String qualifyType(VisitorState state, SuggestedFix.Builder fix, String typeName) {
-        try {
-            return SuggestedFixes.qualifyType(state, fix, typeName);
-        } catch (LinkageError e) {
-            // Work around https://github.com/google/error-prone/issues/1432
-            // by avoiding the findIdent function. It's possible this may result
-            // in colliding imports when classes have the same simple name, but
-            // the output is correct in most cases, in the failures are easy for
-            // humans to fix.
-            for (int startOfClass = typeName.indexOf('.');
-                    startOfClass > 0;
-                    startOfClass = typeName.indexOf('.', startOfClass + 1)) {
-                int endOfClass = typeName.indexOf('.', startOfClass + 1);
-                if (endOfClass < 0) {
-                    endOfClass = typeName.length();
-                }
-                if (!Character.isUpperCase(typeName.charAt(startOfClass + 1))) {
-                    continue;
-                }
-                String className = typeName.substring(startOfClass + 1);
-                fix.addImport(typeName.substring(0, endOfClass));
-                return className;
+        if (!unsupportedJvm) {
+            try {
+                return SuggestedFixes.qualifyType(state, fix, typeName);
+            } catch (LinkageError e) {
+                unsupportedJvm = true;
             }
-            return typeName;
         }
+        // Work around https://github.com/google/error-prone/issues/1432
+        // by avoiding the findIdent function. It's possible this may result
+        // in colliding imports when classes have the same simple name, but
+        // the output is correct in most cases, in the failures are easy for
+        // humans to fix.
+        for (int startOfClass = typeName.indexOf('.');
+                startOfClass > 0;
+                startOfClass = typeName.indexOf('.', startOfClass + 1)) {
+            int endOfClass = typeName.indexOf('.', startOfClass + 1);
+            if (endOfClass < 0) {
+                endOfClass = typeName.length();
+            }
+            if (!Character.isUpperCase(typeName.charAt(startOfClass + 1))) {
+                continue;
+            }
+            String className = typeName.substring(startOfClass + 1);
+            fix.addImport(typeName.substring(0, endOfClass));
+            return className;
+        }
+        return typeName;
     }
 
     /**
@@ -61,13 +69,16 @@ final class MoreSuggestedFixes {
      * is not supported by error-prone (JDK13) in which case a fallback is attempted.
      */
     static String prettyType(@Nullable VisitorState state, @Nullable SuggestedFix.Builder fix, Type type) {
-        try {
-            return SuggestedFixes.prettyType(state, fix, type);
-        } catch (LinkageError e) {
-            // Work around https://github.com/google/error-prone/issues/1432
-            // by using a path which cannot add imports, this does not throw on jdk13.
-            return SuggestedFixes.prettyType(null, null, type);
+        if (!unsupportedJvm) {
+            try {
+                return SuggestedFixes.prettyType(state, fix, type);
+            } catch (LinkageError e) {
+                unsupportedJvm = true;
+            }
         }
+        // Work around https://github.com/google/error-prone/issues/1432
+        // by using a path which cannot add imports, this does not throw on jdk13.
+        return SuggestedFixes.prettyType(null, null, type);
     }
 
     private MoreSuggestedFixes() {}
@@ -22,9 +22,12 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.auto.service.AutoService;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.BugPattern;
+import com.google.errorprone.ErrorProneFlags;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.fixes.SuggestedFix;
@@ -34,22 +37,35 @@ import com.google.errorprone.matchers.Matchers;
 import com.google.errorprone.matchers.method.MethodMatchers;
 import com.google.errorprone.predicates.TypePredicate;
 import com.google.errorprone.predicates.TypePredicates;
+import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.AssertTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.ExpressionTree;
 import com.sun.source.tree.ImportTree;
 import com.sun.source.tree.LambdaExpressionTree;
 import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
 import com.sun.source.util.SimpleTreeVisitor;
+import com.sun.source.util.TreeScanner;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import javax.inject.Inject;
 import javax.lang.model.type.TypeKind;
 
 /**
@@ -57,6 +73,8 @@ import javax.lang.model.type.TypeKind;
  * existing assertions to AssertJ without losing any information. It's an explicit non-goal to take advantage of better
  * assertions provided by AssertJ, because those should be implemented in such a way to improve poor uses of AssertJ as
  * well, which may run after the suggested fixes provided by this checker.
+ *
+ * <p>Findings may be exported as JSON using {@link FindingsReporter}.
  */
 @AutoService(BugChecker.class)
 @BugPattern(
@@ -75,6 +93,10 @@ public final class PreferAssertj extends BugChecker
             "org.junit.Assert",
             "org.junit.jupiter.api.Assertions");
 
+    // Computed once for each compilation unit rather than scanning imports for every fix.
+    private static final CompilationUnitScoped<Boolean> staticAssertjImport =
+            CompilationUnitScoped.of(PreferAssertj::useStaticAssertjImport);
+
     // Must match everything otherwise matched by this check, used to avoid
     // additional checks for each method invocation.
     private static final Matcher<ExpressionTree> FAST_CHECK =
@@ -277,36 +299,126 @@ public final class PreferAssertj extends BugChecker
             .namedAnyOf("assertDoesNotThrow")
             .withParameters("org.junit.jupiter.api.function.Executable", String.class.getName());
 
+    // Opt-in, because the composed fixes are harder to review than the individual steps.
+    private static final String COMPOSE_FIXES_FLAG = "PreferAssertj:ComposeFixes";
+
+    @Nullable
+    private final FindingsReporter findings;
+
+    private final boolean composeFixes;
+
+    // Read once per compilation, so that no CheckExecutionEvent is allocated while the event is disabled.
+    private final boolean recordEvents;
+
+    @SuppressWarnings("unused") // Required by ServiceLoader
+    public PreferAssertj() {
+        this.findings = null;
+        this.composeFixes = false;
+        this.recordEvents = CheckExecutionEvent.isEnabled();
+    }
+
+    @Inject
+    public PreferAssertj(ErrorProneFlags flags) {
+        this.findings = FindingsReporter.fromFlags(flags).orElse(null);
+        this.composeFixes = flags.getBoolean(COMPOSE_FIXES_FLAG).orElse(false);
+        this.recordEvents = CheckExecutionEvent.isEnabled();
+    }
+
     @Override
-    @SuppressWarnings({"CyclomaticComplexity", "MethodLength"})
     public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+        if (!TestFrameworkUsage.isReferenced(state)) {
+            return Description.NO_MATCH;
+        }
+        if (!recordEvents) {
+            return recordFindings(matchLegacyAssertion(tree, state), state);
+        }
+        CheckExecutionEvent event = CheckExecutionEvent.start();
+        Description description = matchLegacyAssertion(tree, state);
+        event.end(PreferAssertj.class, tree, state, description);
+        return recordFindings(description, state);
+    }
+
+    @SuppressWarnings("SwitchStatementDefaultCase")
+    private Description matchLegacyAssertion(MethodInvocationTree tree, VisitorState state) {
         // We check a lot of methods, the fast check allows us to quickly rule out most invocations
         // without individually checking each of the more specific patterns.
         if (!FAST_CHECK.matches(tree, state)) {
             return Description.NO_MATCH;
         }
+        // Only the matchers for overloads of the invoked method are evaluated, rather than every pattern.
+        switch (checkNotNull(ASTHelpers.getSymbol(tree), "symbol").getSimpleName().toString()) {
+            case "assertTrue":
+                return matchAssertTrue(tree, state);
+            case "assertFalse":
+                return matchAssertFalse(tree, state);
+            case "assertNull":
+                return matchAssertNull(tree, state);
+            case "assertNotNull":
+                return matchAssertNotNull(tree, state);
+            case "assertSame":
+                return matchAssertSame(tree, state);
+            case "assertNotSame":
+                return matchAssertNotSame(tree, state);
+            case "fail":
+                return matchFail(tree, state);
+            case "assertEquals":
+                return matchAssertEquals(tree, state);
+            case "assertNotEquals":
+                return matchAssertNotEquals(tree, state);
+            case "assertThat":
+                return matchAssertThat(tree, state);
+            case "assertThrows":
+                return matchAssertThrows(tree, state);
+            case "assertDoesNotThrow":
+                return matchAssertDoesNotThrow(tree, state);
+            case "assertArrayEquals":
+                return matchAssertEqualsCatchall(tree, state);
+            default:
+                return Description.NO_MATCH;
+        }
+    }
+
+    private Description matchAssertTrue(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_TRUE.matches(tree, state)) {
-            return withAssertThat(tree, state, 0, (assertThat, fix) -> fix.replace(tree, assertThat + ".isTrue()"));
+            return withComposedAssertThat(tree, state, 0, "", "isTrue")
+                    .orElseGet(() -> withAssertThat(
+                            tree, state, 0, (assertThat, fix) -> fix.replace(tree, assertThat + ".isTrue()")));
         }
         if (ASSERT_TRUE_DESCRIPTION.matches(tree, state)) {
-            return withAssertThat(
-                    tree,
-                    state,
-                    1,
-                    (assertThat, fix) ->
-                            fix.replace(tree, assertThat + ".describedAs(" + argSource(tree, state, 0) + ").isTrue()"));
+            return fixAssertTrueDescription(tree, state);
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description fixAssertTrueDescription(MethodInvocationTree tree, VisitorState state) {
+        String describedAs = ".describedAs(" + argSource(tree, state, 0) + ")";
+        return withComposedAssertThat(tree, state, 1, describedAs, "isTrue")
+                .orElseGet(() -> withAssertThat(
+                        tree,
+                        state,
+                        1,
+                        (assertThat, fix) -> fix.replace(tree, assertThat + describedAs + ".isTrue()")));
+    }
+
+    private Description matchAssertFalse(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_FALSE.matches(tree, state)) {
-            return withAssertThat(tree, state, 0, (assertThat, fix) -> fix.replace(tree, assertThat + ".isFalse()"));
+            return withComposedAssertThat(tree, state, 0, "", "isFalse")
+                    .orElseGet(() -> withAssertThat(
+                            tree, state, 0, (assertThat, fix) -> fix.replace(tree, assertThat + ".isFalse()")));
         }
         if (ASSERT_FALSE_DESCRIPTION.matches(tree, state)) {
-            return withAssertThat(
-                    tree,
-                    state,
-                    1,
-                    (assertThat, fix) -> fix.replace(
-                            tree, assertThat + ".describedAs(" + argSource(tree, state, 0) + ").isFalse()"));
+            String describedAs = ".describedAs(" + argSource(tree, state, 0) + ")";
+            return withComposedAssertThat(tree, state, 1, describedAs, "isFalse")
+                    .orElseGet(() -> withAssertThat(
+                            tree,
+                            state,
+                            1,
+                            (assertThat, fix) -> fix.replace(tree, assertThat + describedAs + ".isFalse()")));
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertNull(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_NULL.matches(tree, state)) {
             return withAssertThat(tree, state, 0, (assertThat, fix) -> fix.replace(tree, assertThat + ".isNull()"));
         }
@@ -326,6 +438,10 @@ public final class PreferAssertj extends BugChecker
                     (assertThat, fix) ->
                             fix.replace(tree, assertThat + ".describedAs(" + argSource(tree, state, 1) + ").isNull()"));
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertNotNull(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_NOT_NULL.matches(tree, state)) {
             return withAssertThat(tree, state, 0, (assertThat, fix) -> fix.replace(tree, assertThat + ".isNotNull()"));
         }
@@ -345,6 +461,10 @@ public final class PreferAssertj extends BugChecker
                     (assertThat, fix) -> fix.replace(
                             tree, assertThat + ".describedAs(" + argSource(tree, state, 1) + ").isNotNull()"));
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertSame(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_SAME.matches(tree, state)) {
             return withAssertThat(
                     tree,
@@ -375,6 +495,10 @@ public final class PreferAssertj extends BugChecker
                                     "%s.describedAs(%s).isSameAs(%s)",
                                     assertThat, argSource(tree, state, 2), argSource(tree, state, 0))));
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertNotSame(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_NOT_SAME.matches(tree, state)) {
             return withAssertThat(
                     tree,
@@ -405,6 +529,10 @@ public final class PreferAssertj extends BugChecker
                                     "%s.describedAs(%s).isNotSameAs(%s)",
                                     assertThat, argSource(tree, state, 2), argSource(tree, state, 0))));
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchFail(MethodInvocationTree tree, VisitorState state) {
         if (FAIL_DESCRIPTION.matches(tree, state) || FAIL.matches(tree, state)) {
             String replacement =
                     String.format("fail(%s)", tree.getArguments().isEmpty() ? "\"fail\"" : argSource(tree, state, 0));
@@ -417,6 +545,10 @@ public final class PreferAssertj extends BugChecker
                             .build())
                     .build();
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertEquals(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_EQUALS_FLOATING.matches(tree, state)) {
             return withAssertThat(tree, state, 1, (assertThat, fix) -> {
                 String replacement = String.format(
@@ -458,74 +590,11 @@ public final class PreferAssertj extends BugChecker
                 fix.addStaticImport("org.assertj.core.api.Assertions.within").replace(tree, replacement);
             });
         }
-        if (ASSERT_NOT_EQUALS_FLOATING.matches(tree, state)) {
-            return withAssertThat(tree, state, 1, (assertThat, fix) -> {
-                String replacement = String.format(
-                        "%s%s",
-                        assertThat,
-                        isConstantZero(tree.getArguments().get(2))
-                                ? String.format(".isNotEqualTo(%s)", argSource(tree, state, 0))
-                                : String.format(
-                                        ".isNotCloseTo(%s, within(%s))",
-                                        argSource(tree, state, 0), argSource(tree, state, 2)));
-                fix.addStaticImport("org.assertj.core.api.Assertions.within").replace(tree, replacement);
-            });
-        }
-        if (ASSERT_NOT_EQUALS_FLOATING_DESCRIPTION.matches(tree, state)) {
-            return withAssertThat(tree, state, 2, (assertThat, fix) -> {
-                String replacement = String.format(
-                        "%s.describedAs(%s)%s",
-                        assertThat,
-                        argSource(tree, state, 0),
-                        isConstantZero(tree.getArguments().get(3))
-                                ? String.format(".isNotEqualTo(%s)", argSource(tree, state, 1))
-                                : String.format(
-                                        ".isNotCloseTo(%s, within(%s))",
-                                        argSource(tree, state, 1), argSource(tree, state, 3)));
-                fix.addStaticImport("org.assertj.core.api.Assertions.within").replace(tree, replacement);
-            });
-        }
-        if (ASSERT_NOT_EQUALS_FLOATING_DESCRIPTION_END.matches(tree, state)) {
-            return withAssertThat(tree, state, 1, (assertThat, fix) -> {
-                String replacement = String.format(
-                        "%s.describedAs(%s)%s",
-                        assertThat,
-                        argSource(tree, state, 3),
-                        isConstantZero(tree.getArguments().get(2))
-                                ? String.format(".isNotEqualTo(%s)", argSource(tree, state, 0))
-                                : String.format(
-                                        ".isNotCloseTo(%s, within(%s))",
-                                        argSource(tree, state, 0), argSource(tree, state, 2)));
-                fix.addStaticImport("org.assertj.core.api.Assertions.within").replace(tree, replacement);
-            });
-        }
-        if (ASSERT_THAT.matches(tree, state)) {
-            Optional<String> hamcrestReplacement = tree.getArguments().get(1).accept(HamcrestVisitor.INSTANCE, state);
-            return withAssertThat(tree, state, 0, (assertThat, fix) -> {
-                String replacement = assertThat
-                        + hamcrestReplacement.orElseGet(() -> ".is(new "
-                                + MoreSuggestedFixes.qualifyType(state, fix, "org.assertj.core.api.HamcrestCondition")
-                                + "<>("
-                                + argSource(tree, state, 1)
-                                + "))");
-                fix.replace(tree, replacement);
-            });
-        }
-        if (ASSERT_THAT_DESCRIPTION.matches(tree, state)) {
-            Optional<String> hamcrestReplacement = tree.getArguments().get(2).accept(HamcrestVisitor.INSTANCE, state);
-            return withAssertThat(tree, state, 1, (assertThat, fix) -> {
-                String replacement = assertThat
-                        + ".describedAs("
-                        + argSource(tree, state, 0)
-                        + ")"
-                        + hamcrestReplacement.orElseGet(() -> ".is(new "
-                                + MoreSuggestedFixes.qualifyType(state, fix, "org.assertj.core.api.HamcrestCondition")
-                                + "<>("
-                                + argSource(tree, state, 2)
-                                + "))");
-                fix.replace(tree, replacement);
-            });
-        }
+        return matchAssertEqualsCatchall(tree, state);
+    }
+
+    @SuppressWarnings("CyclomaticComplexity")
+    private Description matchAssertEqualsCatchall(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_EQUALS_CATCHALL.matches(tree, state)) {
             int parameters = tree.getArguments().size();
             if (parameters == 2) {
@@ -536,8 +605,7 @@ public final class PreferAssertj extends BugChecker
                         (assertThat, fix) ->
                                 fix.replace(tree, assertThat + ".isEqualTo(" + argSource(tree, state, 0) + ")"));
             } else if (parameters == 3
-                    && ASTHelpers.isSameType(
-                            getParameterType(tree, 0), state.getTypeFromString(String.class.getName()), state)) {
+                    && ASTHelpers.isSameType(getParameterType(tree, 0), KnownTypes.STRING.get(state), state)) {
                 return withAssertThat(
                         tree,
                         state,
@@ -551,8 +619,7 @@ public final class PreferAssertj extends BugChecker
                                         + argSource(tree, state, 1)
                                         + ")"));
             } else if (parameters == 3
-                    && ASTHelpers.isSameType(
-                            getParameterType(tree, 2), state.getTypeFromString(String.class.getName()), state)) {
+                    && ASTHelpers.isSameType(getParameterType(tree, 2), KnownTypes.STRING.get(state), state)) {
                 return withAssertThat(
                         tree,
                         state,
@@ -598,6 +665,55 @@ public final class PreferAssertj extends BugChecker
                 return describeMatch(tree);
             }
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertNotEquals(MethodInvocationTree tree, VisitorState state) {
+        if (ASSERT_NOT_EQUALS_FLOATING.matches(tree, state)) {
+            return withAssertThat(tree, state, 1, (assertThat, fix) -> {
+                String replacement = String.format(
+                        "%s%s",
+                        assertThat,
+                        isConstantZero(tree.getArguments().get(2))
+                                ? String.format(".isNotEqualTo(%s)", argSource(tree, state, 0))
+                                : String.format(
+                                        ".isNotCloseTo(%s, within(%s))",
+                                        argSource(tree, state, 0), argSource(tree, state, 2)));
+                fix.addStaticImport("org.assertj.core.api.Assertions.within").replace(tree, replacement);
+            });
+        }
+        if (ASSERT_NOT_EQUALS_FLOATING_DESCRIPTION.matches(tree, state)) {
+            return withAssertThat(tree, state, 2, (assertThat, fix) -> {
+                String replacement = String.format(
+                        "%s.describedAs(%s)%s",
+                        assertThat,
+                        argSource(tree, state, 0),
+                        isConstantZero(tree.getArguments().get(3))
+                                ? String.format(".isNotEqualTo(%s)", argSource(tree, state, 1))
+                                : String.format(
+                                        ".isNotCloseTo(%s, within(%s))",
+                                        argSource(tree, state, 1), argSource(tree, state, 3)));
+                fix.addStaticImport("org.assertj.core.api.Assertions.within").replace(tree, replacement);
+            });
+        }
+        if (ASSERT_NOT_EQUALS_FLOATING_DESCRIPTION_END.matches(tree, state)) {
+            return withAssertThat(tree, state, 1, (assertThat, fix) -> {
+                String replacement = String.format(
+                        "%s.describedAs(%s)%s",
+                        assertThat,
+                        argSource(tree, state, 3),
+                        isConstantZero(tree.getArguments().get(2))
+                                ? String.format(".isNotEqualTo(%s)", argSource(tree, state, 0))
+                                : String.format(
+                                        ".isNotCloseTo(%s, within(%s))",
+                                        argSource(tree, state, 0), argSource(tree, state, 2)));
+                fix.addStaticImport("org.assertj.core.api.Assertions.within").replace(tree, replacement);
+            });
+        }
+        return matchAssertNotEqualsCatchall(tree, state);
+    }
+
+    private Description matchAssertNotEqualsCatchall(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_NOT_EQUALS_CATCHALL.matches(tree, state)) {
             int parameters = tree.getArguments().size();
             if (parameters == 2) {
@@ -608,8 +724,7 @@ public final class PreferAssertj extends BugChecker
                         (assertThat, fix) ->
                                 fix.replace(tree, assertThat + ".isNotEqualTo(" + argSource(tree, state, 0) + ")"));
             } else if (parameters == 3
-                    && ASTHelpers.isSameType(
-                            getParameterType(tree, 0), state.getTypeFromString(String.class.getName()), state)) {
+                    && ASTHelpers.isSameType(getParameterType(tree, 0), KnownTypes.STRING.get(state), state)) {
                 return withAssertThat(
                         tree,
                         state,
@@ -620,8 +735,7 @@ public final class PreferAssertj extends BugChecker
                                         "%s.describedAs(%s).isNotEqualTo(%s)",
                                         assertThat, argSource(tree, state, 0), argSource(tree, state, 1))));
             } else if (parameters == 3
-                    && ASTHelpers.isSameType(
-                            getParameterType(tree, 2), state.getTypeFromString(String.class.getName()), state)) {
+                    && ASTHelpers.isSameType(getParameterType(tree, 2), KnownTypes.STRING.get(state), state)) {
                 return withAssertThat(
                         tree,
                         state,
@@ -636,6 +750,53 @@ public final class PreferAssertj extends BugChecker
                 return describeMatch(tree);
             }
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertThat(MethodInvocationTree tree, VisitorState state) {
+        // org.hamcrest.MatcherAssert.assertThat(String,boolean) is an assertTrue
+        if (ASSERT_TRUE_DESCRIPTION.matches(tree, state)) {
+            return fixAssertTrueDescription(tree, state);
+        }
+        if (ASSERT_THAT.matches(tree, state)) {
+            return withAssertThat(tree, state, 0, (assertThat, fix) -> {
+                HamcrestContext context = new HamcrestContext(state);
+                Optional<String> hamcrestReplacement =
+                        tree.getArguments().get(1).accept(HamcrestVisitor.INSTANCE, context);
+                // Imports required by a partial translation are discarded along with it
+                hamcrestReplacement.ifPresent(unused -> fix.merge(context.imports()));
+                String replacement = assertThat
+                        + hamcrestReplacement.orElseGet(() -> ".is(new "
+                                + MoreSuggestedFixes.qualifyType(state, fix, "org.assertj.core.api.HamcrestCondition")
+                                + "<>("
+                                + argSource(tree, state, 1)
+                                + "))");
+                fix.replace(tree, replacement);
+            });
+        }
+        if (ASSERT_THAT_DESCRIPTION.matches(tree, state)) {
+            return withAssertThat(tree, state, 1, (assertThat, fix) -> {
+                HamcrestContext context = new HamcrestContext(state);
+                Optional<String> hamcrestReplacement =
+                        tree.getArguments().get(2).accept(HamcrestVisitor.INSTANCE, context);
+                // Imports required by a partial translation are discarded along with it
+                hamcrestReplacement.ifPresent(unused -> fix.merge(context.imports()));
+                String replacement = assertThat
+                        + ".describedAs("
+                        + argSource(tree, state, 0)
+                        + ")"
+                        + hamcrestReplacement.orElseGet(() -> ".is(new "
+                                + MoreSuggestedFixes.qualifyType(state, fix, "org.assertj.core.api.HamcrestCondition")
+                                + "<>("
+                                + argSource(tree, state, 2)
+                                + "))");
+                fix.replace(tree, replacement);
+            });
+        }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertThrows(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_THROWS.matches(tree, state)) {
             if (tree.getArguments().get(1) instanceof LambdaExpressionTree) {
                 String replacement = String.format(
@@ -668,6 +829,10 @@ public final class PreferAssertj extends BugChecker
                 return describeMatch(tree);
             }
         }
+        return Description.NO_MATCH;
+    }
+
+    private Description matchAssertDoesNotThrow(MethodInvocationTree tree, VisitorState state) {
         if (ASSERT_DOES_NOT_THROW.matches(tree, state)) {
             if (tree.getArguments().get(0) instanceof LambdaExpressionTree) {
                 String replacement =
@@ -704,6 +869,19 @@ public final class PreferAssertj extends BugChecker
 
     @Override
     public Description matchAssert(AssertTree tree, VisitorState state) {
+        if (!TestFrameworkUsage.isReferenced(state)) {
+            return Description.NO_MATCH;
+        }
+        if (!recordEvents) {
+            return recordFindings(matchAssertStatement(tree, state), state);
+        }
+        CheckExecutionEvent event = CheckExecutionEvent.start();
+        Description description = matchAssertStatement(tree, state);
+        event.end(PreferAssertj.class, tree, state, description);
+        return recordFindings(description, state);
+    }
+
+    private Description matchAssertStatement(AssertTree tree, VisitorState state) {
         if (!TestCheckUtils.isTestCode(state)) {
             return Description.NO_MATCH;
         }
@@ -722,6 +900,13 @@ public final class PreferAssertj extends BugChecker
                 .build();
     }
 
+    private Description recordFindings(Description description, VisitorState state) {
+        if (findings != null) {
+            findings.record(description, state);
+        }
+        return description;
+    }
+
     /** Returns the describedAs invocation if a detail is present, otherwise an empty string. */
     private static String getAssertDescription(@Nullable ExpressionTree detail, VisitorState state) {
         if (detail == null) {
@@ -731,8 +916,7 @@ public final class PreferAssertj extends BugChecker
         if (Strings.isNullOrEmpty(detailSource)) {
             return "";
         }
-        if (state.getTypes()
-                .isAssignable(ASTHelpers.getResultType(detail), state.getTypeFromString(String.class.getName()))) {
+        if (state.getTypes().isAssignable(ASTHelpers.getResultType(detail), KnownTypes.STRING.get(state))) {
             return ".describedAs(" + detailSource + ')';
         }
         // Lazily allow the value to be evaluated on failures
@@ -756,16 +940,38 @@ public final class PreferAssertj extends BugChecker
             String qualifiedMap = MoreSuggestedFixes.prettyType(
                     state,
                     fix,
-                    state.getTypes()
-                            .asSuper(ASTHelpers.getType(actualArgument), state.getSymbolFromString("java.util.Map")));
+                    state.getTypes().asSuper(ASTHelpers.getType(actualArgument), KnownTypes.MAP.get(state).tsym));
             actualArgumentString = String.format("(%s) %s", qualifiedMap, actualArgumentString);
         }
         assertThat.accept(qualified + '(' + actualArgumentString + ')', fix);
         return buildDescription(tree).addFix(fix.build()).build();
     }
 
+    /**
+     * Replaces {@code tree} with the final form of {@code assertThat(actual).check()} when {@link #COMPOSE_FIXES_FLAG}
+     * is enabled, applying the rewrites of {@link AssertjRefactoring} checks which would otherwise each require another
+     * compilation. Returns empty if composing is disabled or no rewrite applies.
+     */
+    private Optional<Description> withComposedAssertThat(
+            MethodInvocationTree tree, VisitorState state, int actualIndex, String describedAs, String check) {
+        if (!composeFixes) {
+            return Optional.empty();
+        }
+        return SyntheticAssertion.compose(
+                        SyntheticAssertion.of(tree.getArguments().get(actualIndex), check, state), state)
+                .filter(composed -> !isIterableMap(composed.actual(), state))
+                .map(composed -> {
+                    SuggestedFix.Builder fix = SuggestedFix.builder();
+                    String assertThat = qualifyAssertThat(fix, state);
+                    fix.replace(
+                            tree,
+                            assertThat + '(' + composed.actualSource() + ')' + describedAs + composed.checkSource());
+                    return buildDescription(tree).addFix(fix.build()).build();
+                });
+    }
+
     private static String qualifyAssertThat(SuggestedFix.Builder fix, VisitorState state) {
-        if (useStaticAssertjImport(state)) {
+        if (staticAssertjImport.get(state)) {
             fix.removeStaticImport("org.junit.Assert.assertThat")
                     .removeStaticImport("org.hamcrest.MatcherAssert.assertThat")
                     .addStaticImport("org.assertj.core.api.Assertions.assertThat");
@@ -776,15 +982,19 @@ public final class PreferAssertj extends BugChecker
     }
 
     private static boolean isIterableMap(ExpressionTree value, VisitorState state) {
-        return isSubtype(value, "java.lang.Iterable", state) && isSubtype(value, "java.util.Map", state);
+        return isSubtype(value, KnownTypes.ITERABLE, state) && isSubtype(value, KnownTypes.MAP, state);
     }
 
-    private static boolean isSubtype(ExpressionTree value, String castableTo, VisitorState state) {
-        return ASTHelpers.isSubtype(ASTHelpers.getType(value), state.getTypeFromString(castableTo), state);
+    private static boolean isSubtype(ExpressionTree value, Supplier<Type> castableTo, VisitorState state) {
+        return ASTHelpers.isSubtype(ASTHelpers.getType(value), castableTo.get(state), state);
     }
 
-    private static boolean useStaticAssertjImport(VisitorState state) {
-        for (ImportTree importTree : state.getPath().getCompilationUnit().getImports()) {
+    /**
+     * Fixes are applied after the compilation unit has been analyzed, so the imports observed here remain valid for
+     * every fix in the unit. Fixes within a unit either all add the static import or all qualify the type.
+     */
+    private static boolean useStaticAssertjImport(CompilationUnitTree unit, VisitorState state) {
+        for (ImportTree importTree : unit.getImports()) {
             if (!importTree.isStatic()) {
                 continue;
             }
@@ -798,11 +1008,11 @@ public final class PreferAssertj extends BugChecker
             }
             // if an 'assertThat' is already imported, and it's neither assertj nor org.junit.assert, use
             // the qualified name.
-            return isExpressionSameType(state, memberSelectTree, "org.assertj.core.api.Assertions")
+            return isExpressionSameType(state, memberSelectTree, KnownTypes.ASSERTJ_ASSERTIONS)
                     // if an 'assertThat' is already imported, and it's from (known) legacy Assert,
                     // we remove the static import and add assertj.
-                    || isExpressionSameType(state, memberSelectTree, "org.junit.Assert")
-                    || isExpressionSameType(state, memberSelectTree, "org.hamcrest.MatcherAssert");
+                    || isExpressionSameType(state, memberSelectTree, KnownTypes.JUNIT_ASSERT)
+                    || isExpressionSameType(state, memberSelectTree, KnownTypes.HAMCREST_MATCHER_ASSERT);
         }
         // If we did not encounter an assertThat static import, we can import and use it.
         return true;
@@ -813,9 +1023,9 @@ public final class PreferAssertj extends BugChecker
         return constantValue instanceof Number && ((Number) constantValue).doubleValue() == 0D;
     }
 
-    private static boolean isExpressionSameType(VisitorState state, MemberSelectTree memberSelectTree, String type) {
-        return ASTHelpers.isSameType(
-                ASTHelpers.getType(memberSelectTree.getExpression()), state.getTypeFromString(type), state);
+    private static boolean isExpressionSameType(
+            VisitorState state, MemberSelectTree memberSelectTree, Supplier<Type> type) {
+        return ASTHelpers.isSameType(ASTHelpers.getType(memberSelectTree.getExpression()), type.get(state), state);
     }
 
     private static String argSource(MethodInvocationTree invocation, VisitorState state, int index) {
@@ -838,13 +1048,17 @@ public final class PreferAssertj extends BugChecker
         return argumentSource;
     }
 
-    private static final class HamcrestVisitor extends SimpleTreeVisitor<Optional<String>, VisitorState> {
+    private static final class HamcrestVisitor extends SimpleTreeVisitor<Optional<String>, HamcrestContext> {
         private static final HamcrestVisitor INSTANCE = new HamcrestVisitor(false);
 
         private static final HamcrestVisitor NEGATED = new HamcrestVisitor(true);
 
         private static final TypePredicate MATCHERS = new TypePredicate() {
 
+            // Nested matchers repeatedly resolve methods of the same few classes, whose types are canonical within a
+            // compilation, so results are retained by identity for its lifetime.
+            private final CompilationScoped<Map<Type, Boolean>> results = CompilationScoped.of(IdentityHashMap::new);
+
             private final TypePredicate matcherPredicate = TypePredicates.isDescendantOf("org.hamcrest.Matcher");
             private final TypePredicate[] predicates = new TypePredicate[] {
                 TypePredicates.isExactType("org.hamcrest.Matchers"),
@@ -858,6 +1072,10 @@ public final class PreferAssertj extends BugChecker
 
             @Override
             public boolean apply(Type type, VisitorState state) {
+                return results.get(state).computeIfAbsent(type, key -> matches(key, state));
+            }
+
+            private boolean matches(Type type, VisitorState state) {
                 for (TypePredicate predicate : predicates) {
                     if (predicate.apply(type, state)) {
                         return true;
@@ -867,92 +1085,142 @@ public final class PreferAssertj extends BugChecker
             }
         };
 
-        private static final Matcher<ExpressionTree> IS_MATCHER =
-                MethodMatchers.staticMethod().onClass(MATCHERS).named("is").withParameters("org.hamcrest.Matcher");
-
-        private static final Matcher<ExpressionTree> NOT_MATCHER =
-                MethodMatchers.staticMethod().onClass(MATCHERS).named("not").withParameters("org.hamcrest.Matcher");
-
-        private static final Matcher<ExpressionTree> EQUALS = MethodMatchers.staticMethod()
-                .onClass(MATCHERS)
-                .namedAnyOf("is", "equalTo", "equalToObject")
-                .withParameters(Object.class.getName());
-
-        private static final Matcher<ExpressionTree> INSTANCE_OF = MethodMatchers.staticMethod()
-                .onClass(MATCHERS)
-                .namedAnyOf("isA", "instanceOf")
-                .withParameters("java.lang.Class");
-
-        private static final Matcher<ExpressionTree> NULL = Matchers.anyOf(
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .named("nullValue")
-                        .withNoParameters(),
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .named("nullValue")
-                        .withParameters("java.lang.Class"));
-
-        private static final Matcher<ExpressionTree> NOT_NULL = Matchers.anyOf(
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .named("notNullValue")
-                        .withNoParameters(),
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .named("notNullValue")
-                        .withParameters("java.lang.Class"));
-
-        private static final Matcher<ExpressionTree> CONTAINS = Matchers.anyOf(
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .namedAnyOf("hasItem", "hasItemInArray")
-                        .withParameters(Object.class.getName()),
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .named("containsString")
-                        .withParameters(String.class.getName()));
-
-        // Note: cannot match array/vararg arguments
-        private static final Matcher<ExpressionTree> HAS_ITEMS =
-                MethodMatchers.staticMethod().onClass(MATCHERS).named("hasItems");
-
-        private static final Matcher<ExpressionTree> CONTAINS_EXACTLY_ANY_ORDER = MethodMatchers.staticMethod()
-                .onClass(MATCHERS)
-                .namedAnyOf("arrayContainingInAnyOrder", "containsInAnyOrder");
-
-        private static final Matcher<ExpressionTree> CONTAINS_EXACTLY_ORDERED =
-                MethodMatchers.staticMethod().onClass(MATCHERS).named("contains");
-
-        private static final Matcher<ExpressionTree> IS_EMPTY = Matchers.anyOf(
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .namedAnyOf("empty", "emptyIterable", "emptyArray", "anEmptyMap")
-                        .withNoParameters(),
-                MethodMatchers.staticMethod()
-                        .onClass(MATCHERS)
-                        .namedAnyOf("emptyCollectionOf", "emptyIterableOf")
-                        .withParameters(Class.class.getName()));
-
-        private static final Matcher<ExpressionTree> HAS_SIZE = MethodMatchers.staticMethod()
-                .onClass(MATCHERS)
-                .namedAnyOf("hasSize", "aMapWithSize", "arrayWithSize", "iterableWithSize")
-                .withParameters(int.class.getName());
-
-        private static final Matcher<ExpressionTree> SAME_INSTANCE = MethodMatchers.staticMethod()
-                .onClass(MATCHERS)
-                .namedAnyOf("sameInstance", "theInstance")
-                .withParameters(Object.class.getName());
-
-        private static final Matcher<ExpressionTree> STARTS_WITH = MethodMatchers.staticMethod()
-                .onClass(MATCHERS)
-                .namedAnyOf("startsWith")
-                .withParameters(String.class.getName());
-
-        private static final Matcher<ExpressionTree> ENDS_WITH = MethodMatchers.staticMethod()
-                .onClass(MATCHERS)
-                .namedAnyOf("endsWith")
-                .withParameters(String.class.getName());
+        private static final String CLASS = Class.class.getName();
+        private static final String OBJECT = Object.class.getName();
+        private static final String STRING = String.class.getName();
+        private static final String COMPARABLE = Comparable.class.getName();
+        private static final String BIG_DECIMAL = "java.math.BigDecimal";
+        private static final String MATCHER = "org.hamcrest.Matcher";
+        private static final String COMBINABLE_MATCHER = "org.hamcrest.core.CombinableMatcher";
+
+        // Hamcrest factory methods which have an AssertJ equivalent, keyed by method name. An invocation is resolved
+        // with a single lookup followed by the overloads of that name, rather than evaluating every rule in turn.
+        private static final ImmutableListMultimap<String, Rule> RULES = new RuleTable()
+                // is(Matcher) is for readability, fall through to the next matcher
+                .named("is")
+                .withParameters(MATCHER)
+                .rewrite((node, context, negated) -> node.getArguments().get(0).accept(visitor(negated), context))
+                .named("not")
+                .withParameters(MATCHER)
+                .rewrite((node, context, negated) -> node.getArguments().get(0).accept(visitor(!negated), context))
+                .named("allOf")
+                .withMatcherArguments()
+                .rewrite((node, context, negated) -> combine(node.getArguments(), true, context, negated))
+                .named("anyOf")
+                .withMatcherArguments()
+                .rewrite((node, context, negated) -> combine(node.getArguments(), false, context, negated))
+                // both(a) and either(a) aren't matchers, their and(b) and or(b) invocations include them as receiver
+                .named("both", "either")
+                .withParameters(MATCHER)
+                .rewrite((node, context, negated) -> node.getArguments().get(0).accept(visitor(negated), context))
+                .combinable("and")
+                .withParameters(MATCHER)
+                .rewrite((node, context, negated) -> combine(combined(node), true, context, negated))
+                .combinable("or")
+                .withParameters(MATCHER)
+                .rewrite((node, context, negated) -> combine(combined(node), false, context, negated))
+                .named("is", "equalTo", "equalToObject")
+                .withParameters(OBJECT)
+                .rewrite(withArgument("isEqualTo", "isNotEqualTo"))
+                .named("isA", "instanceOf")
+                .withParameters(CLASS)
+                .rewrite(withArgument("isInstanceOf", "isNotInstanceOf"))
+                .named("nullValue")
+                .withNoParameters()
+                .rewrite(withoutArguments("isNull", "isNotNull"))
+                .named("nullValue")
+                .withParameters(CLASS)
+                .rewrite(withoutArguments("isNull", "isNotNull"))
+                .named("notNullValue")
+                .withNoParameters()
+                .rewrite(withoutArguments("isNotNull", "isNull"))
+                .named("notNullValue")
+                .withParameters(CLASS)
+                .rewrite(withoutArguments("isNotNull", "isNull"))
+                .named("closeTo")
+                .withParameters(double.class.getName(), double.class.getName())
+                .rewrite(withOffset("isCloseTo", "isNotCloseTo"))
+                .named("closeTo")
+                .withParameters(BIG_DECIMAL, BIG_DECIMAL)
+                .rewrite(withOffset("isCloseTo", "isNotCloseTo"))
+                .named("greaterThan")
+                .withParameters(COMPARABLE)
+                .rewrite(withNumericArgument("isGreaterThan", "isLessThanOrEqualTo"))
+                .named("greaterThanOrEqualTo")
+                .withParameters(COMPARABLE)
+                .rewrite(withNumericArgument("isGreaterThanOrEqualTo", "isLessThan"))
+                .named("lessThan")
+                .withParameters(COMPARABLE)
+                .rewrite(withNumericArgument("isLessThan", "isGreaterThanOrEqualTo"))
+                .named("lessThanOrEqualTo")
+                .withParameters(COMPARABLE)
+                .rewrite(withNumericArgument("isLessThanOrEqualTo", "isGreaterThan"))
+                .named("comparesEqualTo")
+                .withParameters(COMPARABLE)
+                .rewrite(withNumericArgument("isEqualByComparingTo", "isNotEqualByComparingTo"))
+                .named("hasItem", "hasItemInArray")
+                .withParameters(OBJECT)
+                .rewrite(withArgument("contains", "doesNotContain"))
+                // Negated, some element fails the matcher
+                .named("everyItem")
+                .withParameters(MATCHER)
+                .rewrite((node, context, negated) ->
+                        elements(negated ? "anySatisfy" : "allSatisfy", node.getArguments(), context, negated))
+                .named("hasItem", "hasItemInArray")
+                .withParameters(MATCHER)
+                .rewrite((node, context, negated) ->
+                        elements(negated ? "noneSatisfy" : "anySatisfy", node.getArguments(), context, false))
+                .named("hasEntry")
+                .withParameters(OBJECT, OBJECT)
+                .rewrite(withAllArguments("containsEntry", "doesNotContainEntry"))
+                .named("hasKey")
+                .withParameters(OBJECT)
+                .rewrite(withArgument("containsKey", "doesNotContainKey"))
+                .named("hasValue")
+                .withParameters(OBJECT)
+                .rewrite(withArgument("containsValue", "doesNotContainValue"))
+                .named("containsString")
+                .withParameters(STRING)
+                .rewrite(withArgument("contains", "doesNotContain"))
+                .named("empty", "emptyIterable", "emptyArray", "anEmptyMap")
+                .withNoParameters()
+                .rewrite(withoutArguments("isEmpty", "isNotEmpty"))
+                .named("emptyCollectionOf", "emptyIterableOf")
+                .withParameters(CLASS)
+                .rewrite(withoutArguments("isEmpty", "isNotEmpty"))
+                .named("sameInstance", "theInstance")
+                .withParameters(OBJECT)
+                .rewrite(withArgument("isSameAs", "isNotSameAs"))
+                .named("startsWith")
+                .withParameters(STRING)
+                .rewrite(withArgument("startsWith", "doesNotStartWith"))
+                .named("endsWith")
+                .withParameters(STRING)
+                .rewrite(withArgument("endsWith", "doesNotEndWith"))
+                // No top level method for negated size assertions
+                .named("hasSize", "aMapWithSize", "arrayWithSize", "iterableWithSize")
+                .withParameters(int.class.getName())
+                .rewrite(withArgument("hasSize", null))
+                // Note: cannot match array/vararg arguments. Negating hasItems would require 'doesNotContainAll' which
+                // doesn't exist, AssertJ doesNotContain evaluates as 'does not contain any'.
+                .named("hasItems")
+                .withObjectVarArgs()
+                .rewrite(withAllArguments("contains"))
+                // Each matcher must be satisfied by some element, negating would require any matcher to be unsatisfied
+                .named("hasItems")
+                .withMatcherArguments()
+                .rewrite((node, context, negated) -> negated
+                        ? Optional.empty()
+                        : elements("anySatisfy", node.getArguments(), context, false))
+                // this negates to 'doesNotContainExactlyInAnyOrder' which doesn't exist.
+                .named("arrayContainingInAnyOrder", "containsInAnyOrder")
+                .withObjectVarArgs()
+                .rewrite(withAllArguments("containsExactlyInAnyOrder"))
+                // this negates to 'doesNotContainExactly' which doesn't exist.
+                .named("contains")
+                .withObjectVarArgs()
+                .rewrite(withAllArguments("containsExactly"))
+                .build();
 
         private final boolean negated;
 
@@ -962,99 +1230,327 @@ public final class PreferAssertj extends BugChecker
         }
 
         @Override
-        @SuppressWarnings("CyclomaticComplexity")
-        public Optional<String> visitMethodInvocation(MethodInvocationTree node, VisitorState state) {
-            // is(Matcher) is for readability, fall through to the next matcher
-            if (IS_MATCHER.matches(node, state)) {
-                return node.getArguments().get(0).accept(this, state);
-            }
-            if (NOT_MATCHER.matches(node, state)) {
-                return node.getArguments().get(0).accept(this.negated ? INSTANCE : NEGATED, state);
-            }
-            if (EQUALS.matches(node, state)) {
-                return Optional.of((negated ? ".isNotEqualTo(" : ".isEqualTo(") + argSource(node, state, 0) + ")");
-            }
-            if (INSTANCE_OF.matches(node, state)) {
-                return Optional.of(
-                        (negated ? ".isNotInstanceOf(" : ".isInstanceOf(") + argSource(node, state, 0) + ")");
+        public Optional<String> visitMethodInvocation(MethodInvocationTree node, HamcrestContext context) {
+            VisitorState state = context.state();
+            Symbol.MethodSymbol symbol = ASTHelpers.getSymbol(node);
+            if (symbol == null) {
+                return Optional.empty();
             }
-            if (NULL.matches(node, state)) {
-                return Optional.of(negated ? ".isNotNull()" : ".isNull()");
+            List<Rule> rules = RULES.get(symbol.getSimpleName().toString());
+            if (rules.isEmpty()
+                    || !(symbol.isStatic()
+                            ? MATCHERS.apply(symbol.owner.type, state)
+                            : symbol.owner.getQualifiedName().toString().startsWith(COMBINABLE_MATCHER))) {
+                return Optional.empty();
             }
-            if (NOT_NULL.matches(node, state)) {
-                return Optional.of(negated ? ".isNull()" : ".isNotNull()");
-            }
-            if (CONTAINS.matches(node, state)) {
-                return Optional.of((negated ? ".doesNotContain(" : ".contains(") + argSource(node, state, 0) + ')');
-            }
-            if (IS_EMPTY.matches(node, state)) {
-                return Optional.of(negated ? ".isNotEmpty()" : ".isEmpty()");
-            }
-            if (SAME_INSTANCE.matches(node, state)) {
-                return Optional.of((negated ? ".isNotSameAs(" : ".isSameAs(") + argSource(node, state, 0) + ')');
-            }
-            if (STARTS_WITH.matches(node, state)) {
-                return Optional.of((negated ? ".doesNotStartWith(" : ".startsWith(") + argSource(node, state, 0) + ')');
+            for (Rule rule : rules) {
+                if (rule.isStatic == symbol.isStatic() && rule.parameters.test(symbol, state)) {
+                    return rule.rewrite.apply(node, context, negated);
+                }
             }
-            if (ENDS_WITH.matches(node, state)) {
-                return Optional.of((negated ? ".doesNotEndWith(" : ".endsWith(") + argSource(node, state, 0) + ')');
+            return Optional.empty();
+        }
+
+        private static HamcrestVisitor visitor(boolean negated) {
+            return negated ? NEGATED : INSTANCE;
+        }
+
+        /**
+         * Rewrites matchers which must all pass, or any of which must pass. Negation swaps the two, e.g.
+         * {@code not(allOf(a, b))} is equivalent to {@code anyOf(not(a), not(b))}.
+         */
+        private static Optional<String> combine(
+                List<? extends ExpressionTree> matchers, boolean all, HamcrestContext context, boolean negated) {
+            if (matchers.isEmpty()) {
+                return Optional.empty();
             }
-            if (HAS_SIZE.matches(node, state)) {
-                if (negated) {
-                    // No top level method for negated size assertions
+            return all != negated ? allOf(matchers, context, negated) : anyOf(matchers, context, negated);
+        }
+
+        /** Chains the assertions of every matcher, which all must pass. */
+        private static Optional<String> allOf(
+                List<? extends ExpressionTree> matchers, HamcrestContext context, boolean negated) {
+            StringBuilder result = new StringBuilder();
+            for (ExpressionTree matcher : matchers) {
+                Optional<String> assertion = matcher.accept(visitor(negated), context);
+                if (!assertion.isPresent()) {
                     return Optional.empty();
                 }
+                result.append(assertion.get());
+            }
+            return Optional.of(result.toString());
+        }
 
-                return Optional.of(".hasSize(" + argSource(node, state, 0) + ')');
+        /** Rewrites to {@code satisfiesAnyOf}, with a lambda asserting each matcher. */
+        private static Optional<String> anyOf(
+                List<? extends ExpressionTree> matchers, HamcrestContext context, boolean negated) {
+            if (matchers.size() == 1) {
+                return matchers.get(0).accept(visitor(negated), context);
             }
-            if (HAS_ITEMS.matches(node, state) && isObjectVarArgs(node, state)) {
-                if (negated) {
-                    // this negates to 'doesNotContainAll' which doesn't exist. AssertJ doesNotContain
-                    // evaluates as 'does not contain any'.
+            return consumers(matchers, context, negated)
+                    .map(consumers -> ".satisfiesAnyOf(" + String.join(", ", consumers) + ')');
+        }
+
+        /**
+         * Rewrites to an element assertion such as {@code allSatisfy} for each matcher, which are applied to every
+         * element in a single pass rather than by the matcher and again to describe a mismatch.
+         */
+        private static Optional<String> elements(
+                String assertion, List<? extends ExpressionTree> matchers, HamcrestContext context, boolean negated) {
+            return consumers(matchers, context, negated).map(consumers -> consumers.stream()
+                    .map(consumer -> '.' + assertion + '(' + consumer + ')')
+                    .collect(Collectors.joining()));
+        }
+
+        /** Returns a lambda asserting each matcher, or empty if any matcher is unsupported. */
+        private static Optional<List<String>> consumers(
+                List<? extends ExpressionTree> matchers, HamcrestContext context, boolean negated) {
+            String parameter = context.lambdaParameter();
+            HamcrestContext lambdaContext = context.withLambdaParameter(parameter);
+            List<String> consumers = new ArrayList<>(matchers.size());
+            for (ExpressionTree matcher : matchers) {
+                Optional<String> assertion = matcher.accept(visitor(negated), lambdaContext);
+                if (!assertion.isPresent()) {
                     return Optional.empty();
                 }
-                return Optional.of(".contains("
-                        + node.getArguments().stream()
-                                .map(state::getSourceForNode)
-                                .collect(Collectors.joining(", "))
-                        + ')');
+                consumers.add(parameter + " -> " + context.assertThat() + '(' + parameter + ')' + assertion.get());
             }
-            if (CONTAINS_EXACTLY_ANY_ORDER.matches(node, state) && isObjectVarArgs(node, state)) {
-                if (negated) {
-                    // this negates to 'doesNotContainExactlyInAnyOrder' which doesn't exist.
-                    return Optional.empty();
-                }
-                return Optional.of(".containsExactlyInAnyOrder("
-                        + node.getArguments().stream()
-                                .map(state::getSourceForNode)
-                                .collect(Collectors.joining(", "))
-                        + ')');
+            return Optional.of(consumers);
+        }
+
+        /** The matchers combined by {@code both(a).and(b)} or {@code either(a).or(b)}, the receiver and argument. */
+        private static List<ExpressionTree> combined(MethodInvocationTree node) {
+            ExpressionTree receiver = ASTHelpers.getReceiver(node);
+            return receiver == null ? ImmutableList.of() : ImmutableList.of(receiver, node.getArguments().get(0));
+        }
+
+        /** Rewrites to an assertion taking the first argument of the matcher, unsupported if the name is null. */
+        private static Rewrite withArgument(String assertion, @Nullable String negatedAssertion) {
+            return (node, context, negated) -> Optional.ofNullable(negated ? negatedAssertion : assertion)
+                    .map(name -> '.' + name + '(' + argSource(node, context.state(), 0) + ')');
+        }
+
+        /**
+         * Rewrites {@code closeTo(operand, error)} to an assertion using {@code within(error)}. Arguments are cast to
+         * the primitive parameter types where required, so the assertion and offset resolve to the same type.
+         */
+        private static Rewrite withOffset(String assertion, String negatedAssertion) {
+            return (node, context, negated) -> Optional.of(String.format(
+                    ".%s(%s, %s)",
+                    negated ? negatedAssertion : assertion,
+                    argSource(node, context.state(), 0),
+                    context.within(argSource(node, context.state(), 1))));
+        }
+
+        /**
+         * Rewrites ordering matchers whose argument is a number or character, which have primitive AssertJ assertions
+         * comparing the same way. Other comparable types may not have an assertion supporting ordering.
+         */
+        private static Rewrite withNumericArgument(String assertion, String negatedAssertion) {
+            Rewrite rewrite = withArgument(assertion, negatedAssertion);
+            return (node, context, negated) -> isNumeric(node.getArguments().get(0), context.state())
+                    ? rewrite.apply(node, context, negated)
+                    : Optional.empty();
+        }
+
+        private static boolean isNumeric(ExpressionTree tree, VisitorState state) {
+            Type type = ASTHelpers.getType(tree);
+            if (type == null) {
+                return false;
             }
-            if (CONTAINS_EXACTLY_ORDERED.matches(node, state) && isObjectVarArgs(node, state)) {
-                if (negated) {
-                    // this negates to 'doesNotContainExactly' which doesn't exist.
-                    return Optional.empty();
-                }
-                return Optional.of(".containsExactly("
-                        + node.getArguments().stream()
-                                .map(state::getSourceForNode)
-                                .collect(Collectors.joining(", "))
-                        + ')');
+            Type unboxed = state.getTypes().unboxedTypeOrType(type);
+            return (unboxed.isPrimitive() && unboxed.getKind() != TypeKind.BOOLEAN)
+                    || ASTHelpers.isSameType(type, KnownTypes.BIG_DECIMAL.get(state), state)
+                    || ASTHelpers.isSameType(type, KnownTypes.BIG_INTEGER.get(state), state);
+        }
+
+        private static Rewrite withoutArguments(String assertion, String negatedAssertion) {
+            return (node, context, negated) -> Optional.of('.' + (negated ? negatedAssertion : assertion) + "()");
+        }
+
+        /** Rewrites to an assertion taking every argument of the matcher, which cannot be negated. */
+        private static Rewrite withAllArguments(String assertion) {
+            return withAllArguments(assertion, null);
+        }
+
+        /** Rewrites to an assertion taking every argument of the matcher, unsupported if the name is null. */
+        private static Rewrite withAllArguments(String assertion, @Nullable String negatedAssertion) {
+            return (node, context, negated) -> Optional.ofNullable(negated ? negatedAssertion : assertion)
+                    .map(name -> '.'
+                            + name
+                            + node.getArguments().stream()
+                                    .map(context.state()::getSourceForNode)
+                                    .collect(Collectors.joining(", ", "(", ")")));
+        }
+    }
+
+    /** State shared by the rewrites of the matchers of a single Hamcrest assertion. */
+    private static final class HamcrestContext {
+        private final VisitorState state;
+        // Imports are only added to the fix once every matcher has been rewritten
+        private final SuggestedFix.Builder imports;
+        // Parameters of enclosing generated lambdas, which must not be reused by nested lambdas
+        private final ImmutableSet<String> lambdaParameters;
+
+        HamcrestContext(VisitorState state) {
+            this(state, SuggestedFix.builder(), ImmutableSet.of());
+        }
+
+        private HamcrestContext(
+                VisitorState state, SuggestedFix.Builder imports, ImmutableSet<String> lambdaParameters) {
+            this.state = state;
+            this.imports = imports;
+            this.lambdaParameters = lambdaParameters;
+        }
+
+        VisitorState state() {
+            return state;
+        }
+
+        /** Imports required by the rewritten matchers. */
+        SuggestedFix.Builder imports() {
+            return imports;
+        }
+
+        /** The AssertJ {@code assertThat} method, qualified or imported as required. */
+        String assertThat() {
+            return qualifyAssertThat(imports, state);
+        }
+
+        /** Returns the AssertJ {@code within(offset)} expression, importing the method. */
+        String within(String offset) {
+            imports.addStaticImport("org.assertj.core.api.Assertions.within");
+            return "within(" + offset + ')';
+        }
+
+        /** Returns a lambda parameter name which doesn't collide with variables in scope. */
+        String lambdaParameter() {
+            Tree scope = state.findEnclosing(MethodTree.class, ClassTree.class);
+            Set<String> names = new HashSet<>(lambdaParameters);
+            if (scope != null) {
+                new TreeScanner<Void, Void>() {
+                    @Override
+                    public Void visitVariable(VariableTree tree, Void unused) {
+                        names.add(tree.getName().toString());
+                        return super.visitVariable(tree, null);
+                    }
+                }.scan(scope, null);
             }
-            return Optional.empty();
+            String name = "actual";
+            for (int i = 1; names.contains(name); i++) {
+                name = "actual" + i;
+            }
+            return name;
+        }
+
+        HamcrestContext withLambdaParameter(String name) {
+            return new HamcrestContext(
+                    state,
+                    imports,
+                    ImmutableSet.<String>builder()
+                            .addAll(lambdaParameters)
+                            .add(name)
+                            .build());
         }
     }
 
-    private static boolean isObjectVarArgs(MethodInvocationTree tree, VisitorState state) {
-        Symbol.MethodSymbol methodSymbol = checkNotNull(ASTHelpers.getSymbol(tree), "symbol");
+    /** Produces the AssertJ assertion replacing a Hamcrest matcher, e.g. {@code .isEqualTo(value)}. */
+    @FunctionalInterface
+    private interface Rewrite {
+        Optional<String> apply(MethodInvocationTree node, HamcrestContext context, boolean negated);
+    }
+
+    private static final class Rule {
+        private final boolean isStatic;
+        private final BiPredicate<Symbol.MethodSymbol, VisitorState> parameters;
+        private final Rewrite rewrite;
+
+        Rule(boolean isStatic, BiPredicate<Symbol.MethodSymbol, VisitorState> parameters, Rewrite rewrite) {
+            this.isStatic = isStatic;
+            this.parameters = parameters;
+            this.rewrite = rewrite;
+        }
+    }
+
+    /** Builds {@link Rule rules} keyed by method name, in the style of {@link MethodMatchers}. */
+    private static final class RuleTable {
+        private final ImmutableListMultimap.Builder<String, Rule> rules = ImmutableListMultimap.builder();
+        private ImmutableList<String> names = ImmutableList.of();
+        private boolean isStatic;
+        private BiPredicate<Symbol.MethodSymbol, VisitorState> parameters = (symbol, state) -> true;
+
+        /** Matches static factory methods of Hamcrest matchers. */
+        RuleTable named(String... values) {
+            names = ImmutableList.copyOf(values);
+            isStatic = true;
+            parameters = (symbol, state) -> true;
+            return this;
+        }
+
+        /** Matches instance methods of {@code CombinableMatcher} and its nested builders. */
+        RuleTable combinable(String... values) {
+            names = ImmutableList.copyOf(values);
+            isStatic = false;
+            parameters = (symbol, state) -> true;
+            return this;
+        }
+
+        RuleTable withNoParameters() {
+            return withParameters();
+        }
+
+        /** Matches overloads whose erased parameter types have exactly the given names. */
+        RuleTable withParameters(String... types) {
+            ImmutableList<String> expected = ImmutableList.copyOf(types);
+            parameters = (symbol, state) -> {
+                List<Symbol.VarSymbol> actual = symbol.getParameters();
+                if (actual.size() != expected.size()) {
+                    return false;
+                }
+                for (int i = 0; i < expected.size(); i++) {
+                    if (!state.getTypes().erasure(actual.get(i).type).toString().equals(expected.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+            return this;
+        }
+
+        RuleTable withObjectVarArgs() {
+            parameters = PreferAssertj::isObjectVarArgs;
+            return this;
+        }
+
+        /** Matches overloads which only accept matchers, including varargs of matchers. */
+        RuleTable withMatcherArguments() {
+            parameters = (symbol, state) -> !symbol.getParameters().isEmpty()
+                    && symbol.getParameters().stream().allMatch(parameter -> {
+                        String type = state.getTypes().erasure(parameter.type).toString();
+                        return type.equals("org.hamcrest.Matcher") || type.equals("org.hamcrest.Matcher[]");
+                    });
+            return this;
+        }
+
+        RuleTable rewrite(Rewrite rewrite) {
+            Rule rule = new Rule(isStatic, parameters, rewrite);
+            names.forEach(name -> rules.put(name, rule));
+            return this;
+        }
+
+        ImmutableListMultimap<String, Rule> build() {
+            return rules.build();
+        }
+    }
+
+    private static boolean isObjectVarArgs(Symbol.MethodSymbol methodSymbol, VisitorState state) {
         if (!methodSymbol.isVarArgs()) {
             return false;
         }
         Symbol.VarSymbol varSymbol = Iterables.getLast(methodSymbol.getParameters());
         checkState(varSymbol.type instanceof Type.ArrayType, "Expected an array as last argument of a vararg method");
         Type.ArrayType arrayType = (Type.ArrayType) varSymbol.type;
-        return ASTHelpers.isSameType(
-                arrayType.getComponentType(), state.getTypeFromString(Object.class.getName()), state);
+        return ASTHelpers.isSameType(arrayType.getComponentType(), KnownTypes.OBJECT.get(state), state);
     }
 
     private static Type getParameterType(MethodInvocationTree tree, int parameterIndex) {
@@ -1074,8 +1570,8 @@ public final class PreferAssertj extends BugChecker
         if (!ASSERT_ARRAY_EQUALS_CATCHALL.matches(tree, state)) {
             return false;
         }
-        Type floatType = state.getTypeFromString("float");
-        Type doubleType = state.getTypeFromString("double");
+        Type floatType = state.getSymtab().floatType;
+        Type doubleType = state.getSymtab().doubleType;
         return (ASTHelpers.isSameType(getParameterType(tree, deltaParameterIndex), floatType, state)
                         || ASTHelpers.isSameType(getParameterType(tree, deltaParameterIndex), doubleType, state))
                 && isConstantZero(tree.getArguments().get(deltaParameterIndex));
@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreeScanner;
+import com.sun.tools.javac.code.Symbol;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Resolves {@code @SuppressWarnings} values naming individual {@link AssertjChecker checks}, e.g.
+ * {@code @SuppressWarnings("AssertjSize")}. Error-prone only honours the name of the {@link AssertjRefactoring} bug
+ * pattern itself, so suppressed checks are skipped by {@link AssertjRefactoring} before they are invoked.
+ */
+final class SubcheckSuppression {
+
+    // Most compilation units don't suppress any check, so enclosing declarations are only inspected when the unit
+    // suppresses at least one of them.
+    private static final CompilationUnitScoped<ImmutableSet<String>> suppressedInUnit =
+            CompilationUnitScoped.of(SubcheckSuppression::suppressedInUnit);
+
+    private SubcheckSuppression() {}
+
+    /** Returns the subset of {@code checkNames} suppressed by a declaration enclosing the current tree. */
+    static ImmutableSet<String> suppressedAt(VisitorState state, Set<String> checkNames) {
+        if (Collections.disjoint(suppressedInUnit.get(state), checkNames)) {
+            return ImmutableSet.of();
+        }
+        ImmutableSet.Builder<String> suppressed = ImmutableSet.builder();
+        for (Tree tree : state.getPath()) {
+            if (tree instanceof ClassTree || tree instanceof MethodTree || tree instanceof VariableTree) {
+                for (String name : suppressedWarnings(ASTHelpers.getSymbol(tree))) {
+                    if (checkNames.contains(name)) {
+                        suppressed.add(name);
+                    }
+                }
+            }
+        }
+        return suppressed.build();
+    }
+
+    private static ImmutableSet<String> suppressedInUnit(CompilationUnitTree unit, VisitorState state) {
+        ImmutableSet.Builder<String> suppressed = ImmutableSet.builder();
+        new TreeScanner<Void, Void>() {
+            @Override
+            public Void visitClass(ClassTree tree, Void unused) {
+                suppressed.addAll(suppressedWarnings(ASTHelpers.getSymbol(tree)));
+                return super.visitClass(tree, null);
+            }
+
+            @Override
+            public Void visitMethod(MethodTree tree, Void unused) {
+                suppressed.addAll(suppressedWarnings(ASTHelpers.getSymbol(tree)));
+                return super.visitMethod(tree, null);
+            }
+
+            @Override
+            public Void visitVariable(VariableTree tree, Void unused) {
+                suppressed.addAll(suppressedWarnings(ASTHelpers.getSymbol(tree)));
+                return super.visitVariable(tree, null);
+            }
+        }.scan(unit, null);
+        return suppressed.build();
+    }
+
+    private static Iterable<String> suppressedWarnings(@Nullable Symbol symbol) {
+        SuppressWarnings annotation = symbol == null ? null : symbol.getAnnotation(SuppressWarnings.class);
+        return annotation == null ? ImmutableSet.of() : Arrays.asList(annotation.value());
+    }
+}
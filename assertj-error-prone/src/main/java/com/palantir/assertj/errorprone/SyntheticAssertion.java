@@ -0,0 +1,122 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
+import com.sun.source.tree.ExpressionTree;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * Model of an AssertJ statement {@code assertThat(actual).check(argument)} which does not exist in source yet. Checks
+ * which support the model expose their rewrite as a function of it, so {@link PreferAssertj} can produce the final form
+ * of a legacy assertion in one pass, e.g. {@code assertTrue(list.size() == 3)} becomes
+ * {@code assertThat(list).hasSize(3)} rather than {@code assertThat(list.size() == 3).isTrue()}.
+ */
+final class SyntheticAssertion {
+
+    private static final ImmutableList<BiFunction<SyntheticAssertion, VisitorState, Optional<SyntheticAssertion>>>
+            REWRITES = ImmutableList.of(
+                    AssertjInstanceOfAssert::rewrite, AssertjPrimitiveComparison::rewrite, AssertjSize::rewrite);
+
+    private final ExpressionTree actual;
+    private final String actualSource;
+    private final String check;
+    private final Optional<ExpressionTree> argument;
+    private final Optional<String> argumentSource;
+
+    private SyntheticAssertion(
+            ExpressionTree actual,
+            String actualSource,
+            String check,
+            Optional<ExpressionTree> argument,
+            Optional<String> argumentSource) {
+        this.actual = actual;
+        this.actualSource = actualSource;
+        this.check = check;
+        this.argument = argument;
+        this.argumentSource = argumentSource;
+    }
+
+    /** Models {@code assertThat(actual).check()}, with the source of {@code actual} unmodified. */
+    static SyntheticAssertion of(ExpressionTree actual, String check, VisitorState state) {
+        return new SyntheticAssertion(
+                actual, state.getSourceForNode(actual), check, Optional.empty(), Optional.empty());
+    }
+
+    /** Models {@code assertThat(actualSource).check(argumentSource)}, where either source may differ from its tree. */
+    static SyntheticAssertion of(
+            ExpressionTree actual,
+            String actualSource,
+            String check,
+            Optional<ExpressionTree> argument,
+            Optional<String> argumentSource) {
+        return new SyntheticAssertion(actual, actualSource, check, argument, argumentSource);
+    }
+
+    /** Applies every supported rewrite until none match, returning empty if the assertion is already final. */
+    static Optional<SyntheticAssertion> compose(SyntheticAssertion assertion, VisitorState state) {
+        SyntheticAssertion current = assertion;
+        boolean rewritten = true;
+        while (rewritten) {
+            rewritten = false;
+            for (BiFunction<SyntheticAssertion, VisitorState, Optional<SyntheticAssertion>> rewrite : REWRITES) {
+                Optional<SyntheticAssertion> result = rewrite.apply(current, state);
+                if (result.isPresent()) {
+                    current = result.get();
+                    rewritten = true;
+                }
+            }
+        }
+        return current == assertion ? Optional.empty() : Optional.of(current);
+    }
+
+    /** The expression asserted on, which {@link #actualSource()} may cast. */
+    ExpressionTree actual() {
+        return actual;
+    }
+
+    String actualSource() {
+        return actualSource;
+    }
+
+    /** True if {@link #actualSource()} is the unmodified source of {@link #actual()}. */
+    boolean hasUnmodifiedActual(VisitorState state) {
+        return actualSource.equals(state.getSourceForNode(actual));
+    }
+
+    /** Simple name of the assertion method, e.g. {@code isEqualTo}. */
+    String check() {
+        return check;
+    }
+
+    /** The argument of the assertion, empty if there is none or it doesn't exist in source, e.g. {@code A.class}. */
+    Optional<ExpressionTree> argument() {
+        return argument;
+    }
+
+    /** Source of the assertion invocation including the leading dot, e.g. {@code .isEqualTo(3)}. */
+    String checkSource() {
+        return '.' + check + '(' + argumentSource.orElse("") + ')';
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticAssertion{actual=" + actualSource + ", check=" + checkSource() + '}';
+    }
+}
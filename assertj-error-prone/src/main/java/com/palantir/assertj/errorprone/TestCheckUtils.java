@@ -21,28 +21,33 @@ import com.google.errorprone.matchers.JUnitMatchers;
 import com.google.errorprone.matchers.Matcher;
 import com.google.errorprone.matchers.Matchers;
 import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.ImportTree;
 import com.sun.source.tree.Tree;
-import com.sun.source.util.TreePath;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 final class TestCheckUtils {
 
+    private static final CompilationUnitScoped<TestCodeCache> testCodeCache =
+            CompilationUnitScoped.of((unit, state) -> new TestCodeCache(unit));
+
     private TestCheckUtils() {
         // utility class
     }
 
-    /** Note that this is a relatively expensive check and should be executed after simpler validation. */
+    /**
+     * Note that this is a relatively expensive check and should be executed after simpler validation. Results are
+     * cached for each class and the compilation unit, so the cost is paid once rather than for each matched tree.
+     */
     static boolean isTestCode(VisitorState state) {
-        TreePath path = state.getPath();
-        for (Tree ancestor : path) {
-            if (ancestor instanceof ClassTree && hasTestCases.matches((ClassTree) ancestor, state)) {
+        TestCodeCache cache = testCodeCache.get(state);
+        for (Tree ancestor : state.getPath()) {
+            if (ancestor instanceof ClassTree && cache.hasTestCases((ClassTree) ancestor, state)) {
                 return true;
             }
         }
-        return state.getPath().getCompilationUnit().getImports().stream()
-                .map(ImportTree::getQualifiedIdentifier)
-                .map(Object::toString)
-                .anyMatch(TestCheckUtils::isTestImport);
+        return cache.hasTestImports;
     }
 
     private static final Matcher<ClassTree> hasJUnit5TestCases = Matchers.hasMethod(Matchers.anyOf(
@@ -52,10 +57,31 @@ final class TestCheckUtils {
     private static final Matcher<ClassTree> hasTestCases =
             Matchers.anyOf(JUnitMatchers.hasJUnit4TestCases, hasJUnit5TestCases);
 
-    private static boolean isTestImport(String qualifiedName) {
+    /**
+     * Returns true if importing {@code qualifiedName} marks a unit as test code. {@link TestFrameworkUsage} extends
+     * these packages rather than copying them.
+     */
+    static boolean isTestImport(String qualifiedName) {
         return qualifiedName.startsWith("org.junit.") // junit 4 and 5
                 || qualifiedName.startsWith("junit.") // junit 3
                 || qualifiedName.startsWith("org.mockito.")
                 || qualifiedName.startsWith("org.assertj.");
     }
+
+    private static final class TestCodeCache {
+        private final Map<ClassTree, Boolean> hasTestCasesByClass = new IdentityHashMap<>();
+        private final boolean hasTestImports;
+
+        TestCodeCache(CompilationUnitTree unit) {
+            this.hasTestImports = unit.getImports().stream()
+                    .map(ImportTree::getQualifiedIdentifier)
+                    .map(Object::toString)
+                    .anyMatch(TestCheckUtils::isTestImport);
+        }
+
+        boolean hasTestCases(ClassTree tree, VisitorState state) {
+            // The class matchers only inspect the class members, so the result doesn't depend on the current path
+            return hasTestCasesByClass.computeIfAbsent(tree, classTree -> hasTestCases.matches(classTree, state));
+        }
+    }
 }
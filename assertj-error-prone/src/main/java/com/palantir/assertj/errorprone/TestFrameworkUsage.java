@@ -0,0 +1,114 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreeScanner;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.Types;
+import javax.annotation.Nullable;
+
+/**
+ * Determines whether a compilation unit references any test or assertion framework. Units which don't, typically
+ * production code, cannot contain anything our checks would rewrite, so checks may skip them entirely.
+ */
+final class TestFrameworkUsage {
+
+    private static final CompilationUnitScoped<Boolean> referenced =
+            CompilationUnitScoped.of(TestFrameworkUsage::scan);
+
+    private TestFrameworkUsage() {
+        // utility class
+    }
+
+    /** Returns true if the current compilation unit references a test or assertion framework. */
+    static boolean isReferenced(VisitorState state) {
+        return referenced.get(state);
+    }
+
+    /** Returns true if {@code qualifiedName} belongs to a test or assertion framework package. */
+    private static boolean isFrameworkName(String qualifiedName) {
+        // Hamcrest alone doesn't make a unit test code, but PreferAssertj migrates its assertions
+        return TestCheckUtils.isTestImport(qualifiedName) || qualifiedName.startsWith("org.hamcrest.");
+    }
+
+    private static boolean scan(CompilationUnitTree unit, VisitorState state) {
+        for (ImportTree importTree : unit.getImports()) {
+            if (isFrameworkName(importTree.getQualifiedIdentifier().toString())) {
+                return true;
+            }
+        }
+        // Fully qualified references, inherited assertion methods and test base classes don't require an import.
+        ReferenceScanner scanner = new ReferenceScanner(state.getTypes());
+        scanner.scan(unit, null);
+        return scanner.found;
+    }
+
+    private static boolean isFrameworkSymbol(@Nullable Symbol symbol) {
+        Symbol.PackageSymbol packageSymbol = symbol == null ? null : ASTHelpers.enclosingPackage(symbol);
+        return packageSymbol != null && isFrameworkName(packageSymbol.getQualifiedName() + ".");
+    }
+
+    private static final class ReferenceScanner extends TreeScanner<Void, Void> {
+        private final Types types;
+        private boolean found;
+
+        ReferenceScanner(Types types) {
+            this.types = types;
+        }
+
+        @Override
+        public Void scan(Tree tree, Void unused) {
+            // Stop descending once a reference has been found
+            return found ? null : super.scan(tree, unused);
+        }
+
+        @Override
+        public Void visitClass(ClassTree tree, Void unused) {
+            for (Type supertype : types.closure(ASTHelpers.getSymbol(tree).type)) {
+                if (isFrameworkSymbol(supertype.tsym)) {
+                    found = true;
+                    return null;
+                }
+            }
+            return super.visitClass(tree, unused);
+        }
+
+        @Override
+        public Void visitIdentifier(IdentifierTree tree, Void unused) {
+            found |= isFrameworkSymbol(ASTHelpers.getSymbol(tree));
+            return null;
+        }
+
+        @Override
+        public Void visitMemberSelect(MemberSelectTree tree, Void unused) {
+            if (isFrameworkSymbol(ASTHelpers.getSymbol(tree))) {
+                found = true;
+                return null;
+            }
+            return super.visitMemberSelect(tree, unused);
+        }
+    }
+}
@@ -85,6 +85,29 @@ class AssertjBooleanAssertTest {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    public void fix_trailingDescription() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(boolean bool) {",
+                        "    assertThat(bool).isEqualTo(false).describedAs(\"x\");",
+                        "    assertThat(bool).isNotEqualTo(false).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(boolean bool) {",
+                        "    assertThat(bool).isFalse().describedAs(\"x\");",
+                        "    assertThat(bool).isTrue().as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     private RefactoringValidator test() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjBooleanAssert()), getClass());
     }
@@ -64,6 +64,21 @@ class AssertjBooleanConjunctionTest {
                 .doTest();
     }
 
+    @Test
+    void testNegativeTrailingDescription() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(boolean bool1, boolean bool2) {",
+                        "    assertThat(bool1 && bool2).isTrue().describedAs(\"x\");",
+                        "    assertThat(bool1 && bool2).isTrue().as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .expectUnchanged()
+                .doTest();
+    }
+
     private RefactoringValidator test() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjBooleanConjunction()), getClass());
     }
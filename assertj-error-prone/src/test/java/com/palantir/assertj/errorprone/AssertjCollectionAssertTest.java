@@ -132,6 +132,31 @@ class AssertjCollectionAssertTest {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    public void fix_trailingDescription() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.List;",
+                        "public class Test {",
+                        "  void f(List<String> actual, List<String> expected) {",
+                        "    assertThat(actual).isEqualTo(expected).describedAs(\"x\");",
+                        "    assertThat(actual).isEqualTo(List.of()).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.List;",
+                        "public class Test {",
+                        "  void f(List<String> actual, List<String> expected) {",
+                        "    assertThat(actual).containsExactlyElementsOf(expected).describedAs(\"x\");",
+                        "    assertThat(actual).containsExactlyElementsOf(List.of()).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     private RefactoringValidator test() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjCollectionAssert()), getClass());
     }
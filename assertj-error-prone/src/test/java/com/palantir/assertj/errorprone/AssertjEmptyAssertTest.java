@@ -67,6 +67,29 @@ class AssertjEmptyAssertTest {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    public void fix_trailingDescription() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(String str) {",
+                        "    assertThat(str).isEqualTo(\"\").describedAs(\"x\");",
+                        "    assertThat(str).isNotEqualTo(\"\").as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(String str) {",
+                        "    assertThat(str).isEqualTo(\"\").describedAs(\"x\");",
+                        "    assertThat(str).isNotEmpty().as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     private RefactoringValidator test() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjEmptyStringAssert()), getClass());
     }
@@ -68,6 +68,29 @@ class AssertjEqualityOrderTest {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.AST_MATCH);
     }
 
+    @Test
+    void testFix_trailingDescription() {
+        fix().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void test(int a) {",
+                        "    assertThat(1).isEqualTo(a).describedAs(\"x\");",
+                        "    assertThat(1).isNotEqualTo(a).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void test(int a) {",
+                        "    assertThat(a).isEqualTo(1).describedAs(\"x\");",
+                        "    assertThat(a).isNotEqualTo(1).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     private RefactoringValidator fix() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjEqualityOrder()), getClass());
     }
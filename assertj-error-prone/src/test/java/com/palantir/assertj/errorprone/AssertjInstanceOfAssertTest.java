@@ -62,6 +62,29 @@ class AssertjInstanceOfAssertTest {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    void test_instanceof_trailingDescription() {
+        fix().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(Object o) {",
+                        "    assertThat(o instanceof String).isTrue().describedAs(\"x\");",
+                        "    assertThat(o instanceof String).isFalse().as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(Object o) {",
+                        "    assertThat(o).isInstanceOf(String.class).describedAs(\"x\");",
+                        "    assertThat(o).isNotInstanceOf(String.class).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     private RefactoringValidator fix() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjInstanceOfAssert()), getClass());
     }
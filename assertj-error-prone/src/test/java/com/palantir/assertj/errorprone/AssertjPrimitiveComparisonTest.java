@@ -434,6 +434,29 @@ class AssertjPrimitiveComparisonTest {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    void less_than_with_trailing_description() {
+        fix().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void test(int a, int b) {",
+                        "    assertThat(a < b).isTrue().describedAs(\"x\");",
+                        "    assertThat(a >= b).isFalse().as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void test(int a, int b) {",
+                        "    assertThat(a).isLessThan(b).describedAs(\"x\");",
+                        "    assertThat(a).isLessThan(b).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     private RefactoringValidator fix() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjPrimitiveComparison()), getClass());
     }
@@ -0,0 +1,187 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.BugCheckerRefactoringTestHelper;
+import com.google.errorprone.CompilationTestHelper;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.fixes.SuggestedFixes;
+import com.sun.source.tree.MethodInvocationTree;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class AssertjRefactoringTest {
+
+    @Test
+    void implementsMatcherForEveryCheckerMethod() {
+        for (Method method : AssertjChecker.class.getDeclaredMethods()) {
+            if (method.isSynthetic() || !method.getName().startsWith("match")) {
+                continue;
+            }
+            assertThat(Arrays.stream(AssertjRefactoring.class.getInterfaces())
+                            .anyMatch(matcher -> declares(matcher, method)))
+                    .describedAs("AssertjRefactoring must implement the BugChecker matcher for %s", method.getName())
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void forwardsOnlyDeclaredMethodInvocationNames() {
+        BugCheckerRefactoringTestHelper.newInstance(new AssertjRefactoring(new RenameIsNull()), getClass())
+                .addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(Object obj, String str) {",
+                        "    assertThat(obj).isNull();",
+                        "    assertThat(str).isEmpty();",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(Object obj, String str) {",
+                        "    assertThat(obj).isNotNull();",
+                        "    assertThat(str).isEmpty();",
+                        "  }",
+                        "}")
+                .doTest();
+    }
+
+    @Test
+    void reportsStatementsWithTrailingMetadataOnce() {
+        RecordSingleAsserts checker = new RecordSingleAsserts();
+        BugCheckerRefactoringTestHelper.newInstance(new AssertjRefactoring(checker), getClass())
+                .addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "public class Test {",
+                        "  void f(Object obj) {",
+                        "    assertThat(obj).isNotNull().describedAs(\"x\");",
+                        "    assertThat(obj).isEqualTo(1).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .expectUnchanged()
+                .doTest();
+        assertThat(checker.checks).containsExactly("assertThat(obj).isNotNull()", "assertThat(obj).isEqualTo(1)");
+    }
+
+    @Test
+    void instrumentationRetainsFindings() {
+        CompilationTestHelper.newInstance(AssertjRefactoring.class, getClass())
+                .setArgs("-XepOpt:AssertjRefactoring:Instrument=true")
+                .addSourceLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.List;",
+                        "public class Test {",
+                        "  void f(List<String> list) {",
+                        "    // BUG: Diagnostic contains: Prefer AssertJ size asserts",
+                        "    assertThat(list.size()).isEqualTo(1);",
+                        "  }",
+                        "}")
+                .doTest();
+    }
+
+    @Test
+    void disabledChecksAreNotInvoked() {
+        CompilationTestHelper.newInstance(AssertjRefactoring.class, getClass())
+                .setArgs("-XepOpt:AssertjRefactoring:DisabledChecks=AssertjSize")
+                .addSourceLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.List;",
+                        "public class Test {",
+                        "  void f(List<String> list) {",
+                        "    assertThat(list.size()).isEqualTo(1);",
+                        "    // BUG: Diagnostic contains: Prefer using AssertJ fluent comparisons",
+                        "    assertThat(list.size() == 1).isTrue();",
+                        "  }",
+                        "}")
+                .doTest();
+    }
+
+    @Test
+    void suppressedChecksAreNotInvoked() {
+        CompilationTestHelper.newInstance(AssertjRefactoring.class, getClass())
+                .addSourceLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.List;",
+                        "public class Test {",
+                        "  @SuppressWarnings(\"AssertjSize\")",
+                        "  void f(List<String> list) {",
+                        "    assertThat(list.size()).isEqualTo(1);",
+                        "  }",
+                        "  void g(List<String> list) {",
+                        "    // BUG: Diagnostic contains: Prefer AssertJ size asserts",
+                        "    assertThat(list.size()).isEqualTo(1);",
+                        "  }",
+                        "}")
+                .doTest();
+    }
+
+    private static boolean declares(Class<?> matcher, Method method) {
+        return Arrays.stream(matcher.getDeclaredMethods())
+                .anyMatch(candidate -> candidate.getName().equals(method.getName())
+                        && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes()));
+    }
+
+    /** Renames every invocation it receives, so invocations which aren't forwarded are left unchanged. */
+    private static final class RenameIsNull implements AssertjChecker {
+
+        @Override
+        public ImmutableSet<String> methodInvocationNames() {
+            return ImmutableSet.of("isNull");
+        }
+
+        @Override
+        public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+            return Optional.of(AssertjCheckerResult.builder()
+                    .description("isNull")
+                    .fix(SuggestedFixes.renameMethodInvocation(tree, "isNotNull", state))
+                    .build());
+        }
+    }
+
+    /** Accepts any method name and records the check of every single assert statement it matches. */
+    private static final class RecordSingleAsserts implements AssertjChecker {
+
+        private final List<String> checks = new ArrayList<>();
+
+        private final AssertjSingleAssertMatcher matcher = AssertjSingleAssertMatcher.of(this::match);
+
+        @Override
+        public Optional<AssertjCheckerResult> matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+            return matcher.matches(tree, state);
+        }
+
+        private Optional<AssertjCheckerResult> match(
+                AssertjSingleAssertMatcher.SingleAssertMatch match, VisitorState state) {
+            checks.add(state.getSourceForNode(match.getCheck()));
+            return Optional.empty();
+        }
+    }
+}
@@ -143,6 +143,31 @@ class AssertjSameSizeAsTest {
                 .doTest();
     }
 
+    @Test
+    void testFix_trailingDescription() {
+        fix().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.*;",
+                        "public class Test {",
+                        "  void test(List<String> list, String[] array) {",
+                        "    assertThat(array).hasSize(list.size()).describedAs(\"x\");",
+                        "    assertThat(list).hasSize(array.length).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.*;",
+                        "public class Test {",
+                        "  void test(List<String> list, String[] array) {",
+                        "    assertThat(array).hasSameSizeAs(list).describedAs(\"x\");",
+                        "    assertThat(list).hasSameSizeAs(array).as(\"x\").withFailMessage(\"y\");",
+                        "  }",
+                        "}")
+                .doTest();
+    }
+
     private RefactoringValidator fix() {
         return RefactoringValidator.of(new AssertjRefactoring(new AssertjSameSizeAs()), getClass());
     }
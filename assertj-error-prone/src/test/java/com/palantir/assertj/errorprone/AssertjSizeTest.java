@@ -49,6 +49,36 @@ class AssertjSizeTest {
                 .doTest();
     }
 
+    @Test
+    void testFix_trailingDescription() {
+        fix().addInputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.*;",
+                        "public class Test {",
+                        "  void test(List<String> list, String string) {",
+                        "    assertThat(list.size()).isEqualTo(1).describedAs(\"x\");",
+                        "    assertThat(string.length()).isGreaterThan(1).as(\"x\").withFailMessage(\"y\");",
+                        "    assertThat(list.size()).isNotZero().describedAs(\"x\");",
+                        "    assertThat(list.size()).isZero().describedAs(\"x\");",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import java.util.*;",
+                        "public class Test {",
+                        "  void test(List<String> list, String string) {",
+                        "    assertThat(list).hasSize(1).describedAs(\"x\");",
+                        "    assertThat(string).hasSizeGreaterThan(1).as(\"x\").withFailMessage(\"y\");",
+                        "    assertThat(list).isNotEmpty().describedAs(\"x\");",
+                        // isEmpty returns void, so it cannot be followed by describedAs
+                        "    assertThat(list.size()).isZero().describedAs(\"x\");",
+                        "  }",
+                        "}")
+                .doTest();
+    }
+
     @Test
     void testFix_lt() {
         fix().addInputLines(
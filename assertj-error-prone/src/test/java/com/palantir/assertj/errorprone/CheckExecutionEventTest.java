@@ -0,0 +1,103 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckExecutionEventTest {
+
+    private static final String EVENT = "com.palantir.assertj.CheckExecution";
+
+    private static final String[] SOURCE = {
+        "import static org.assertj.core.api.Assertions.assertThat;",
+        "import java.util.List;",
+        "public class Test {",
+        "  void f(List<String> list) {",
+        "    assertThat(list.size()).isEqualTo(1);",
+        "  }",
+        "}"
+    };
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void recordsCheckExecutionsWhenEnabled() throws IOException {
+        List<RecordedEvent> events = record(Duration.ZERO);
+
+        assertThat(events).isNotEmpty().allSatisfy(event -> {
+            assertThat(event.getString("treeKind")).isEqualTo("METHOD_INVOCATION");
+            assertThat(event.getString("sourceFile")).endsWith("Test.java");
+            assertThat(event.getDuration()).isNotNull().isGreaterThanOrEqualTo(Duration.ZERO);
+            assertThat(event.getEndTime()).isAfterOrEqualTo(event.getStartTime());
+        });
+        assertThat(events)
+                .filteredOn(event -> event.getString("check").equals("AssertjSize"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getBoolean("fixProduced")).isTrue());
+        assertThat(events)
+                .filteredOn(event -> event.getString("check").equals("AssertjEqualityOrder"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getBoolean("fixProduced")).isFalse());
+    }
+
+    @Test
+    void skipsExecutionsBelowThreshold() throws IOException {
+        // shouldCommit() is false for every execution, so no event is populated or committed
+        assertThat(record(Duration.ofHours(1))).isEmpty();
+    }
+
+    @Test
+    void isOnlyEnabledByRecordingsWhichEnableIt() {
+        assertThat(CheckExecutionEvent.isEnabled()).isFalse();
+        try (Recording recording = new Recording()) {
+            recording.start();
+            assertThat(CheckExecutionEvent.isEnabled()).isFalse();
+        }
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT);
+            recording.start();
+            assertThat(CheckExecutionEvent.isEnabled()).isTrue();
+        }
+    }
+
+    private List<RecordedEvent> record(Duration threshold) throws IOException {
+        Path dump = temp.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT).withThreshold(threshold);
+            recording.start();
+            TestCompilation.compile(temp, ImmutableList.of(), SOURCE);
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT))
+                .collect(Collectors.toList());
+    }
+}
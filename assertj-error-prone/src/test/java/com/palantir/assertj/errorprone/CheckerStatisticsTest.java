@@ -0,0 +1,86 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MoreCollectors;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckerStatisticsTest {
+
+    private static final String[] SOURCE = {
+        "import static org.assertj.core.api.Assertions.assertThat;",
+        "import java.util.List;",
+        "public class Test {",
+        "  void f(List<String> list) {",
+        "    assertThat(list.size()).isEqualTo(1);",
+        "    assertThat(list).isNotNull();",
+        "  }",
+        "}"
+    };
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void printsSummaryWhenInstrumented() throws IOException {
+        String output =
+                TestCompilation.compile(temp, ImmutableList.of("-XepOpt:AssertjRefactoring:Instrument=true"), SOURCE);
+
+        List<String> lines = output.lines().collect(Collectors.toList());
+        assertThat(lines).filteredOn(line -> line.startsWith("AssertjChecker ")).hasSize(1);
+        List<String[]> rows = lines.stream()
+                .filter(line -> line.startsWith("Assertj") && !line.startsWith("AssertjChecker "))
+                .map(line -> line.trim().split("\\s+"))
+                .collect(Collectors.toList());
+        assertThat(rows).allSatisfy(row -> assertThat(row).hasSize(7));
+
+        // Rows follow the order in which the match methods were instrumented
+        List<String> methods = rows.stream().map(row -> row[1]).collect(Collectors.toList());
+        assertThat(methods).contains("matchMethodInvocation", "matchTry");
+        assertThat(methods.lastIndexOf("matchMethodInvocation")).isLessThan(methods.indexOf("matchTry"));
+
+        // Only the isEqualTo invocation is forwarded to AssertjSize, and produces the only finding
+        assertThat(row(rows, "AssertjSize", "matchMethodInvocation")).containsExactly(1L, 1L, 1L);
+        assertThat(row(rows, "AssertjEqualityOrder", "matchMethodInvocation")).containsExactly(1L, 0L, 0L);
+        assertThat(row(rows, "AssertjBooleanConjunction", "matchMethodInvocation"))
+                .containsExactly(0L, 0L, 0L);
+        assertThat(row(rows, "AssertjAssertThatThrownBy", "matchTry")).containsExactly(0L, 0L, 0L);
+    }
+
+    @Test
+    void printsNothingByDefault() throws IOException {
+        String output = TestCompilation.compile(temp, ImmutableList.of(), SOURCE);
+
+        assertThat(output).doesNotContain("AssertjChecker").doesNotContain("matchMethodInvocation");
+    }
+
+    /** Returns the invocation, match and fix counts of a summary row. */
+    private static List<Long> row(List<String[]> rows, String checker, String method) {
+        return rows.stream()
+                .filter(row -> row[0].equals(checker) && row[1].equals(method))
+                .map(row -> ImmutableList.of(Long.parseLong(row[2]), Long.parseLong(row[3]), Long.parseLong(row[4])))
+                .collect(MoreCollectors.onlyElement());
+    }
+}
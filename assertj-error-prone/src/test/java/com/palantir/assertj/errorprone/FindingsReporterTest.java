@@ -0,0 +1,247 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FindingsReporterTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void writesOneJsonObjectPerFinding() throws IOException {
+        Path output = temp.resolve("findings.jsonl");
+        TestCompilation.compile(
+                temp,
+                ImmutableList.of("-XepOpt:AssertjFindings:OutputFile=" + output),
+                ImmutableMap.of(
+                        "FirstTest.java",
+                        new String[] {
+                            "import static org.assertj.core.api.Assertions.assertThat;",
+                            "import java.util.List;",
+                            "class FirstTest {",
+                            "  void f(List<String> list) {",
+                            "    assertThat(list.size()).isEqualTo(1);",
+                            "    assertThat(list.size()).isZero();",
+                            "  }",
+                            "}"
+                        },
+                        "SecondTest.java",
+                        new String[] {
+                            "import static org.assertj.core.api.Assertions.assertThat;",
+                            "class SecondTest {",
+                            "  void f(int value) {",
+                            "    assertThat(value).isEqualTo(1);",
+                            "    assertThat(1).isEqualTo(value);",
+                            "  }",
+                            "}"
+                        }));
+
+        List<Map<String, Object>> findings = Files.readAllLines(output, StandardCharsets.UTF_8).stream()
+                .map(line -> new JsonReader(line).readObject())
+                .collect(Collectors.toList());
+
+        assertThat(findings)
+                .allSatisfy(finding -> assertThat(finding)
+                        .containsOnlyKeys(
+                                "check",
+                                "bugPattern",
+                                "file",
+                                "position",
+                                "line",
+                                "column",
+                                "replacementSize",
+                                "message")
+                        .containsEntry("bugPattern", "AssertjRefactoring"));
+        // Units are flushed in the order they're analyzed, each finding names the check which produced it
+        assertThat(findings)
+                .extracting(finding -> finding.get("check"), finding -> finding.get("line"))
+                .containsExactly(
+                        tuple("AssertjSize", 5L),
+                        tuple("AssertjSize", 6L),
+                        tuple("AssertjEqualityOrder", 5L));
+        assertThat(findings.get(0).get("file").toString()).endsWith("FirstTest.java");
+        assertThat(findings.get(2).get("file").toString()).endsWith("SecondTest.java");
+        assertThat(findings).allSatisfy(finding -> assertThat((Long) finding.get("replacementSize"))
+                .isPositive());
+    }
+
+    @Test
+    void replacesFindingsOfPreviousCompilations() throws IOException {
+        Path output = temp.resolve("findings.jsonl");
+        ImmutableList<String> arguments = ImmutableList.of("-XepOpt:AssertjFindings:OutputFile=" + output);
+        TestCompilation.compile(
+                temp,
+                arguments,
+                "import static org.assertj.core.api.Assertions.assertThat;",
+                "import java.util.List;",
+                "class Test {",
+                "  void f(List<String> list) {",
+                "    assertThat(list.size()).isEqualTo(1);",
+                "    assertThat(list.size()).isZero();",
+                "  }",
+                "}");
+        assertThat(Files.readAllLines(output, StandardCharsets.UTF_8)).hasSize(2);
+
+        TestCompilation.compile(
+                temp,
+                arguments,
+                "import static org.assertj.core.api.Assertions.assertThat;",
+                "class Test {",
+                "  void f(int value) {",
+                "    assertThat(1).isEqualTo(value);",
+                "  }",
+                "}");
+        assertThat(Files.readAllLines(output, StandardCharsets.UTF_8))
+                .singleElement()
+                .satisfies(line -> assertThat(new JsonReader(line).readObject())
+                        .containsEntry("check", "AssertjEqualityOrder"));
+
+        TestCompilation.compile(temp, arguments, "class Test {}");
+        assertThat(output).isEmptyFile();
+    }
+
+    @Test
+    void quotesCharactersJsonCannotContain() {
+        String value = "quote\" backslash\\ newline\n tab\t bell\u0007 nul\u0000 emoji\uD83D\uDE00 lone\uD800 end";
+
+        String quoted = FindingsReporter.quote(value);
+
+        assertThat(quoted).doesNotContainPattern("[\\x00-\\x1f]").contains("\\u0007", "\\u0000", "\\ud800");
+        // Lone surrogates are escaped, so the literal survives encoding as UTF-8
+        assertThat(new String(quoted.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .isEqualTo(quoted);
+        assertThat(new JsonReader(quoted).readString()).isEqualTo(value);
+    }
+
+    /** Strict reader for the subset of JSON which findings use: objects, strings and integers. */
+    private static final class JsonReader {
+        private final String json;
+        private int position;
+
+        JsonReader(String json) {
+            this.json = json;
+        }
+
+        Map<String, Object> readObject() {
+            Map<String, Object> object = readObjectValue();
+            assertThat(position).describedAs("Trailing content in %s", json).isEqualTo(json.length());
+            return object;
+        }
+
+        String readString() {
+            String value = readStringValue();
+            assertThat(position).describedAs("Trailing content in %s", json).isEqualTo(json.length());
+            return value;
+        }
+
+        private Map<String, Object> readObjectValue() {
+            expect('{');
+            Map<String, Object> object = new LinkedHashMap<>();
+            if (peek() == '}') {
+                position++;
+                return object;
+            }
+            do {
+                String key = readStringValue();
+                expect(':');
+                assertThat(object.put(key, readValue()))
+                        .describedAs("Duplicate key %s", key)
+                        .isNull();
+            } while (tryConsume(','));
+            expect('}');
+            return object;
+        }
+
+        private Object readValue() {
+            char next = peek();
+            if (next == '"') {
+                return readStringValue();
+            }
+            if (next == '{') {
+                return readObjectValue();
+            }
+            int start = position;
+            tryConsume('-');
+            while (position < json.length() && Character.isDigit(json.charAt(position))) {
+                position++;
+            }
+            assertThat(position).describedAs("Expected a value at %s in %s", start, json).isGreaterThan(start);
+            return Long.parseLong(json.substring(start, position));
+        }
+
+        private String readStringValue() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char character = json.charAt(position++);
+                if (character == '"') {
+                    return value.toString();
+                }
+                assertThat(character)
+                        .describedAs("Unescaped control character in %s", json)
+                        .isGreaterThanOrEqualTo(' ');
+                if (character != '\\') {
+                    value.append(character);
+                    continue;
+                }
+                char escape = json.charAt(position++);
+                if (escape == 'u') {
+                    value.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                    position += 4;
+                } else {
+                    int index = "\"\\/bfnrt".indexOf(escape);
+                    assertThat(index).describedAs("Invalid escape in %s", json).isNotNegative();
+                    value.append("\"\\/\b\f\n\r\t".charAt(index));
+                }
+            }
+        }
+
+        private char peek() {
+            assertThat(position).describedAs("Unexpected end of %s", json).isLessThan(json.length());
+            return json.charAt(position);
+        }
+
+        private boolean tryConsume(char expected) {
+            if (position < json.length() && json.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            assertThat(peek()).describedAs("Expected '%s' at %s in %s", expected, position, json).isEqualTo(expected);
+            position++;
+        }
+    }
+}
@@ -701,6 +701,119 @@ public class PreferAssertjTests {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    public void fix_assertThat_combinedMatchers() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.hamcrest.MatcherAssert.assertThat;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "class Test {",
+                        "  void foo(String value) {",
+                        "    assertThat(value, allOf(notNullValue(), startsWith(\"a\"), endsWith(\"z\")));",
+                        "    assertThat(value, both(startsWith(\"a\")).and(endsWith(\"z\")));",
+                        "    assertThat(value, anyOf(equalTo(\"str\"), nullValue()));",
+                        "    assertThat(value, either(startsWith(\"a\")).or(endsWith(\"z\")));",
+                        "    assertThat(value, not(anyOf(equalTo(\"a\"), equalTo(\"b\"))));",
+                        "    assertThat(value, anyOf(equalTo(\"a\"), hasToString(\"b\")));",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "",
+                        "import org.assertj.core.api.HamcrestCondition;",
+                        "class Test {",
+                        "  void foo(String value) {",
+                        "    assertThat(value).isNotNull().startsWith(\"a\").endsWith(\"z\");",
+                        "    assertThat(value).startsWith(\"a\").endsWith(\"z\");",
+                        "    assertThat(value).satisfiesAnyOf(actual -> assertThat(actual).isEqualTo(\"str\"), "
+                                + "actual -> assertThat(actual).isNull());",
+                        "    assertThat(value).satisfiesAnyOf(actual -> assertThat(actual).startsWith(\"a\"), "
+                                + "actual -> assertThat(actual).endsWith(\"z\"));",
+                        "    assertThat(value).isNotEqualTo(\"a\").isNotEqualTo(\"b\");",
+                        "    assertThat(value).is(new HamcrestCondition<>(anyOf(equalTo(\"a\"), hasToString(\"b\"))));",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
+    @Test
+    public void fix_assertThat_numberMatchers() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.hamcrest.MatcherAssert.assertThat;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "import java.math.BigDecimal;",
+                        "class Test {",
+                        "  void foo(double value, Double boxed, int count, BigDecimal decimal, String str) {",
+                        "    assertThat(value, closeTo(1.5, 0.1));",
+                        "    assertThat(value, closeTo(1, 0.1));",
+                        "    assertThat(boxed, not(closeTo(1.5, 0.1)));",
+                        "    assertThat(decimal, closeTo(BigDecimal.ONE, BigDecimal.TEN));",
+                        "    assertThat(count, greaterThan(1));",
+                        "    assertThat(count, greaterThanOrEqualTo(1));",
+                        "    assertThat(count, lessThan(1));",
+                        "    assertThat(count, lessThanOrEqualTo(1));",
+                        "    assertThat(count, not(greaterThan(1)));",
+                        "    assertThat(value, is(lessThan(2.0)));",
+                        "    assertThat(decimal, comparesEqualTo(BigDecimal.ONE));",
+                        "    assertThat(str, greaterThan(\"a\"));",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import static org.assertj.core.api.Assertions.within;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "",
+                        "import java.math.BigDecimal;",
+                        "import org.assertj.core.api.HamcrestCondition;",
+                        "class Test {",
+                        "  void foo(double value, Double boxed, int count, BigDecimal decimal, String str) {",
+                        "    assertThat(value).isCloseTo(1.5, within(0.1));",
+                        "    assertThat(value).isCloseTo((double) 1, within(0.1));",
+                        "    assertThat(boxed).isNotCloseTo(1.5, within(0.1));",
+                        "    assertThat(decimal).isCloseTo(BigDecimal.ONE, within(BigDecimal.TEN));",
+                        "    assertThat(count).isGreaterThan(1);",
+                        "    assertThat(count).isGreaterThanOrEqualTo(1);",
+                        "    assertThat(count).isLessThan(1);",
+                        "    assertThat(count).isLessThanOrEqualTo(1);",
+                        "    assertThat(count).isLessThanOrEqualTo(1);",
+                        "    assertThat(value).isLessThan(2.0);",
+                        "    assertThat(decimal).isEqualByComparingTo(BigDecimal.ONE);",
+                        "    assertThat(str).is(new HamcrestCondition<>(greaterThan(\"a\")));",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
+    @Test
+    public void fix_assertThat_fallbackDiscardsImports() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.hamcrest.MatcherAssert.assertThat;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "class Test {",
+                        "  void foo(double value) {",
+                        "    assertThat(value, allOf(closeTo(1.0, 0.1), hasToString(\"1.0\")));",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "",
+                        "import org.assertj.core.api.HamcrestCondition;",
+                        "class Test {",
+                        "  void foo(double value) {",
+                        "    assertThat(value).is(new HamcrestCondition<>(allOf(closeTo(1.0, 0.1), "
+                                + "hasToString(\"1.0\"))));",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     @Test
     public void fix_assertThat_equality() {
         test().addInputLines(
@@ -828,6 +941,56 @@ public class PreferAssertjTests {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    public void fix_assertThat_elementMatchers() {
+        test().addInputLines(
+                        "Test.java",
+                        "import static org.hamcrest.MatcherAssert.assertThat;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "",
+                        "import java.util.*;",
+                        "class Test {",
+                        "  void foo(List<String> li, String[] ar, Map<String, Integer> map) {",
+                        "    assertThat(li, everyItem(startsWith(\"a\")));",
+                        "    assertThat(li, not(everyItem(startsWith(\"a\"))));",
+                        "    assertThat(li, hasItem(startsWith(\"a\")));",
+                        "    assertThat(li, not(hasItem(startsWith(\"a\"))));",
+                        "    assertThat(ar, hasItemInArray(startsWith(\"a\")));",
+                        "    assertThat(li, hasItems(startsWith(\"a\"), endsWith(\"z\")));",
+                        "    assertThat(map, hasEntry(\"a\", 1));",
+                        "    assertThat(map, not(hasEntry(\"a\", 1)));",
+                        "    assertThat(map, hasKey(\"a\"));",
+                        "    assertThat(map, not(hasKey(\"a\")));",
+                        "    assertThat(map, hasValue(1));",
+                        "    assertThat(map, not(hasValue(1)));",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import static org.hamcrest.Matchers.*;",
+                        "",
+                        "import java.util.*;",
+                        "class Test {",
+                        "  void foo(List<String> li, String[] ar, Map<String, Integer> map) {",
+                        "    assertThat(li).allSatisfy(actual -> assertThat(actual).startsWith(\"a\"));",
+                        "    assertThat(li).anySatisfy(actual -> assertThat(actual).doesNotStartWith(\"a\"));",
+                        "    assertThat(li).anySatisfy(actual -> assertThat(actual).startsWith(\"a\"));",
+                        "    assertThat(li).noneSatisfy(actual -> assertThat(actual).startsWith(\"a\"));",
+                        "    assertThat(ar).anySatisfy(actual -> assertThat(actual).startsWith(\"a\"));",
+                        "    assertThat(li).anySatisfy(actual -> assertThat(actual).startsWith(\"a\"))"
+                                + ".anySatisfy(actual -> assertThat(actual).endsWith(\"z\"));",
+                        "    assertThat(map).containsEntry(\"a\", 1);",
+                        "    assertThat(map).doesNotContainEntry(\"a\", 1);",
+                        "    assertThat(map).containsKey(\"a\");",
+                        "    assertThat(map).doesNotContainKey(\"a\");",
+                        "    assertThat(map).containsValue(1);",
+                        "    assertThat(map).doesNotContainValue(1);",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     @Test
     public void fix_assertThat_empty() {
         test().addInputLines(
@@ -1134,6 +1297,79 @@ public class PreferAssertjTests {
                 .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
     }
 
+    @Test
+    public void assertsIgnoredInProductionCodeUsingHamcrest() {
+        test().addInputLines(
+                        "Test.java",
+                        "import org.hamcrest.Matcher;",
+                        "class Test {",
+                        "  void execute(String input, Matcher<String> matcher) {",
+                        "    assert matcher.matches(input);",
+                        "  }",
+                        "}")
+                .expectUnchanged()
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
+    @Test
+    public void fix_inheritedAssertWithoutImports() {
+        test().addInputLines(
+                        "Test.java",
+                        "class Test extends junit.framework.TestCase {",
+                        "  void testFoo(String value) {",
+                        "    assertNull(value);",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "",
+                        "class Test extends junit.framework.TestCase {",
+                        "  void testFoo(String value) {",
+                        "    assertThat(value).isNull();",
+                        "  }",
+                        "}")
+                .doTest();
+    }
+
+    @Test
+    public void fix_composedAssertTrue() {
+        BugCheckerRefactoringTestHelper.newInstance(PreferAssertj.class, getClass())
+                .setArgs("-XepOpt:PreferAssertj:ComposeFixes=true")
+                .addInputLines(
+                        "Test.java",
+                        "import static org.junit.Assert.assertFalse;",
+                        "import static org.junit.Assert.assertTrue;",
+                        "",
+                        "import java.util.List;",
+                        "class Test {",
+                        "  void foo(List<String> list, Object value, long count) {",
+                        "    assertTrue(list.size() == 3);",
+                        "    assertTrue(\"desc\", list.size() > 1);",
+                        "    assertFalse(count < 2);",
+                        "    assertTrue(value instanceof String);",
+                        "    assertTrue(list.isEmpty());",
+                        "  }",
+                        "}")
+                .addOutputLines(
+                        "Test.java",
+                        "import static org.assertj.core.api.Assertions.assertThat;",
+                        "import static org.junit.Assert.assertFalse;",
+                        "import static org.junit.Assert.assertTrue;",
+                        "",
+                        "import java.util.List;",
+                        "class Test {",
+                        "  void foo(List<String> list, Object value, long count) {",
+                        "    assertThat(list).hasSize(3);",
+                        "    assertThat(list).describedAs(\"desc\").hasSizeGreaterThan(1);",
+                        "    assertThat(count).isGreaterThanOrEqualTo(2);",
+                        "    assertThat(value).isInstanceOf(String.class);",
+                        "    assertThat(list.isEmpty()).isTrue();",
+                        "  }",
+                        "}")
+                .doTest(BugCheckerRefactoringTestHelper.TestMode.TEXT_MATCH);
+    }
+
     private RefactoringValidator test() {
         return RefactoringValidator.of(new PreferAssertj(), getClass());
     }
@@ -0,0 +1,89 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.assertj.errorprone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.ErrorProneJavaCompiler;
+import com.google.errorprone.scanner.ScannerSupplier;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+/**
+ * Compiles source files on disk with {@link AssertjRefactoring}, for tests which inspect side effects of a complete
+ * compilation, such as printed output or written files, which {@code CompilationTestHelper} doesn't expose.
+ */
+final class TestCompilation {
+
+    private TestCompilation() {}
+
+    /** Compiles {@code lines} as {@code Test.java} within {@code directory}, returning everything javac printed. */
+    static String compile(Path directory, List<String> arguments, String... lines) throws IOException {
+        return compile(directory, arguments, ImmutableMap.of("Test.java", lines));
+    }
+
+    /** Compiles the lines of each source, keyed by file name, in iteration order of {@code sources}. */
+    static String compile(Path directory, List<String> arguments, Map<String, String[]> sources) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, String[]> source : sources.entrySet()) {
+            files.add(Files.write(
+                    directory.resolve(source.getKey()), Arrays.asList(source.getValue()), StandardCharsets.UTF_8));
+        }
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        StringWriter output = new StringWriter();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler compiler =
+                new ErrorProneJavaCompiler(ScannerSupplier.fromBugCheckerClasses(AssertjRefactoring.class));
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            boolean success = compiler.getTask(
+                            output,
+                            fileManager,
+                            diagnostics,
+                            ImmutableList.<String>builder()
+                                    .add("-classpath", System.getProperty("java.class.path"))
+                                    .add("-d", classes.toString())
+                                    .add("-proc:none")
+                                    .addAll(arguments)
+                                    .build(),
+                            null,
+                            fileManager.getJavaFileObjectsFromPaths(files))
+                    .call();
+            assertThat(success)
+                    .describedAs("Compilation failed: %s", diagnostics.getDiagnostics())
+                    .isTrue();
+        }
+        assertThat(diagnostics.getDiagnostics())
+                .noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+        return output.toString();
+    }
+}